@@ -14,6 +14,7 @@ public enum MacAlgorithm {
     SSL_MAC_MD5("SslMacMD5", null),
     HMAC_SHA1("HmacSHA1", null),
     HMAC_SHA224("HmacSHA224", null),
+    HMAC_SHA256("HmacSHA256", null),
     HMAC_SHA384("HmacSHA384", null),
     HMAC_SHA512("HmacSHA512", null),
     HMAC_MD5("HmacMD5", null);
@@ -0,0 +1,14 @@
+package mj.crypto.enums;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+public enum Priority {
+
+    HIGH,
+    NORMAL,
+    LOW
+}
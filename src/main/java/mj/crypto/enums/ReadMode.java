@@ -0,0 +1,16 @@
+package mj.crypto.enums;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+public enum ReadMode {
+
+    HEAP,
+    DIRECT,
+    MAPPED,
+    OVERLAPPED,
+    AUTO
+}
@@ -0,0 +1,13 @@
+package mj.crypto.enums;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+public enum StreamMode {
+
+    FOLD,
+    RETAIN
+}
@@ -3,10 +3,14 @@ package mj.crypto.hash;
 import mj.crypto.Result;
 import mj.crypto.enums.HashAlgorithm;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 /**
  * @Project cryptography
@@ -18,6 +22,7 @@ public abstract class AbstractHash<T> implements Hash<T> {
 
     protected final MessageDigest digest;
     protected boolean empty = true;
+    private byte[] scratch;
 
     public AbstractHash(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
         try {
@@ -31,6 +36,14 @@ public abstract class AbstractHash<T> implements Hash<T> {
         }
     }
 
+    protected AbstractHash(MessageDigest digest) {
+        if (Objects.isNull(digest)) {
+            throw new IllegalArgumentException("Digest must not be null");
+        }
+
+        this.digest = digest;
+    }
+
     @Override
     public AbstractHash<T> clear() {
         this.empty = true;
@@ -43,16 +56,69 @@ public abstract class AbstractHash<T> implements Hash<T> {
 
     @Override
     public Result finalizeHash(int times) {
+        return finalizeHash((long) times, null);
+    }
+
+    public Result finalizeHash(long times, LongConsumer progress) {
+        byte[] output = new byte[this.digest.getDigestLength()];
+        try {
+            if (finalizeHash(output, 0, times, progress) == 0) {
+                return Optional::empty;
+            }
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return () -> Optional.of(output);
+    }
+
+    public int finalizeHash(byte[] output, int offset) throws DigestException {
+        return finalizeHash(output, offset, 1);
+    }
+
+    public int finalizeHash(byte[] output, int offset, int times) throws DigestException {
+        return finalizeHash(output, offset, (long) times, null);
+    }
+
+    public int finalizeHash(byte[] output, int offset, long times, LongConsumer progress) throws DigestException {
+        int length = outputLength(output.length - offset);
         if (this.empty) {
-            return Optional::empty;
+            return 0;
         }
 
         this.empty = true;
+        return Rounds.digest(this.digest, output, offset, length, times, progress);
+    }
+
+    public int finalizeHash(ByteBuffer output) throws DigestException {
+        return finalizeHash(output, 1);
+    }
+
+    public int finalizeHash(ByteBuffer output, int times) throws DigestException {
+        outputLength(output.remaining());
+
+        int written;
+        if (output.hasArray()) {
+            written = finalizeHash(output.array(), output.arrayOffset() + output.position(), times);
+            ((Buffer) output).position(output.position() + written);
+        } else {
+            if (Objects.isNull(this.scratch)) {
+                this.scratch = new byte[this.digest.getDigestLength()];
+            }
+
+            written = finalizeHash(this.scratch, 0, times);
+            output.put(this.scratch, 0, written);
+        }
+
+        return written;
+    }
 
-        while (--times > 0) {
-            this.digest.update(this.digest.digest());
+    protected final int outputLength(int available) throws DigestException {
+        int length = this.digest.getDigestLength();
+        if (available < length) {
+            throw new DigestException(String.format("Output buffer too small, %d bytes are required", length));
         }
 
-        return () -> Optional.of(this.digest.digest());
+        return length;
     }
 }
@@ -4,10 +4,14 @@ import mj.crypto.Result;
 import mj.crypto.enums.MacAlgorithm;
 
 import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 /**
  * @Project cryptography
@@ -19,6 +23,7 @@ public abstract class AbstractMac<T> implements Mac<T> {
 
     protected final javax.crypto.Mac mac;
     protected boolean empty = true;
+    private byte[] scratch;
 
     public AbstractMac(MacAlgorithm algorithm, SecretKey key) throws NoSuchAlgorithmException, InvalidKeyException {
         try {
@@ -32,6 +37,10 @@ public abstract class AbstractMac<T> implements Mac<T> {
         }
     }
 
+    AbstractMac(javax.crypto.Mac mac) {
+        this.mac = mac;
+    }
+
     @Override
     public AbstractMac<T> clear() {
         this.mac.reset();
@@ -44,16 +53,69 @@ public abstract class AbstractMac<T> implements Mac<T> {
 
     @Override
     public Result finalizeMac(int times) {
+        return finalizeMac((long) times, null);
+    }
+
+    public Result finalizeMac(long times, LongConsumer progress) {
+        byte[] output = new byte[this.mac.getMacLength()];
+        try {
+            if (finalizeMac(output, 0, times, progress) == 0) {
+                return Optional::empty;
+            }
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return () -> Optional.of(output);
+    }
+
+    public int finalizeMac(byte[] output, int offset) throws ShortBufferException {
+        return finalizeMac(output, offset, 1);
+    }
+
+    public int finalizeMac(byte[] output, int offset, int times) throws ShortBufferException {
+        return finalizeMac(output, offset, (long) times, null);
+    }
+
+    public int finalizeMac(byte[] output, int offset, long times, LongConsumer progress) throws ShortBufferException {
+        int length = outputLength(output.length - offset);
         if (this.empty) {
-            return Optional::empty;
+            return 0;
         }
 
         this.empty = true;
+        return Rounds.doFinal(this.mac, output, offset, length, times, progress);
+    }
+
+    public int finalizeMac(ByteBuffer output) throws ShortBufferException {
+        return finalizeMac(output, 1);
+    }
+
+    public int finalizeMac(ByteBuffer output, int times) throws ShortBufferException {
+        outputLength(output.remaining());
+
+        int written;
+        if (output.hasArray()) {
+            written = finalizeMac(output.array(), output.arrayOffset() + output.position(), times);
+            ((Buffer) output).position(output.position() + written);
+        } else {
+            if (Objects.isNull(this.scratch)) {
+                this.scratch = new byte[this.mac.getMacLength()];
+            }
+
+            written = finalizeMac(this.scratch, 0, times);
+            output.put(this.scratch, 0, written);
+        }
+
+        return written;
+    }
 
-        while (--times > 0) {
-            this.mac.update(this.mac.doFinal());
+    protected final int outputLength(int available) throws ShortBufferException {
+        int length = this.mac.getMacLength();
+        if (available < length) {
+            throw new ShortBufferException(String.format("Output buffer too small, %d bytes are required", length));
         }
 
-        return () -> Optional.of(this.mac.doFinal());
+        return length;
     }
 }
@@ -1,60 +1,160 @@
 package mj.crypto.hash;
 
-import mj.crypto.Result;
 import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.StreamMode;
 
+import java.security.DigestException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.LinkedList;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Queue;
+import java.util.function.LongConsumer;
 
 /**
  * @Project cryptography
  * @Author Montaser Sobaih
  * @Date 03-07-2020
+ *
+ * In {@link StreamMode#FOLD} mode, the default, each input hash is fed into the combining digest as soon as it is
+ * offered, so memory stays constant however many inputs are added. {@link StreamMode#RETAIN} keeps every input hash
+ * in one contiguous array, available through {@link #getHash(int)} until the hash is finalized.
  */
 
 public abstract class AbstractStreamHash<T> extends AbstractHash<T> {
 
+    /**
+     * @deprecated use {@link #offer(byte[])}; hashes added here are offered when the hash is read or finalized
+     */
+    @Deprecated
     protected Queue<byte[]> hashes = new LinkedList<>();
 
+    private final DigestArena arena = new DigestArena();
+    private MessageDigest combiner;
+    private StreamMode mode = StreamMode.FOLD;
+    private byte[] first;
+    private int count;
+
     public AbstractStreamHash(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
         super(algorithm);
     }
 
+    public StreamMode getMode() {
+        return mode;
+    }
+
+    public AbstractStreamHash<T> setMode(StreamMode mode) {
+        if (Objects.isNull(mode)) {
+            throw new IllegalArgumentException("Mode must not be null");
+        }
+
+        drain();
+        if (this.count > 0) {
+            throw new IllegalStateException("Mode cannot change while hashes are pending");
+        }
+
+        this.mode = mode;
+        return this;
+    }
+
+    public int size() {
+        drain();
+        return this.count;
+    }
+
+    public byte[] getHash(int index) {
+        if (this.mode != StreamMode.RETAIN) {
+            throw new IllegalStateException("Hashes are only kept in RETAIN mode");
+        }
+
+        drain();
+        return this.arena.get(index);
+    }
+
     @Override
     public AbstractHash<T> clear() {
         this.hashes = new LinkedList<>();
+        reset();
+        if (Objects.nonNull(this.combiner)) {
+            this.combiner.reset();
+        }
+
         return super.clear();
     }
 
     @Override
-    public final Result finalizeHash(int times) {
-        switch (this.hashes.size()) {
-            case 0:
-                return Optional::empty;
-            case 1:
-                if (times > 1) {
-                    this.digest.update(this.hashes.poll());
-
-                    while (--times > 1) {
-                        this.digest.update(this.digest.digest());
-                    }
-
-                    return () -> Optional.of(this.digest.digest());
-                } else {
-                    return () -> Optional.ofNullable(this.hashes.poll());
-                }
-            default:
-                while (!this.hashes.isEmpty()) {
-                    this.digest.update(this.hashes.poll());
-                }
-
-                while (--times > 1) {
-                    this.digest.update(this.digest.digest());
-                }
-
-                return () -> Optional.of(this.digest.digest());
+    public final int finalizeHash(byte[] output, int offset, long times, LongConsumer progress) throws DigestException {
+        int length = outputLength(output.length - offset);
+        drain();
+        if (this.count == 0) {
+            return 0;
+        }
+
+        if (this.count == 1 && times <= 1) {
+            byte[] hash = single();
+            System.arraycopy(hash, 0, output, offset, hash.length);
+            return hash.length;
+        }
+
+        return Rounds.digest(combine(), output, offset, length, times > 1 ? times - 1 : 1, progress);
+    }
+
+    protected final void offer(byte[] hash) {
+        if (this.mode == StreamMode.RETAIN) {
+            this.arena.add(hash);
+        } else if (this.count == 0) {
+            this.first = hash;
+        } else {
+            if (this.count == 1) {
+                combiner().update(this.first);
+                this.first = null;
+            }
+
+            combiner().update(hash);
+        }
+
+        this.count++;
+    }
+
+    private byte[] single() {
+        byte[] hash = this.mode == StreamMode.RETAIN ? this.arena.get(0) : this.first;
+        reset();
+        return hash;
+    }
+
+    private MessageDigest combine() {
+        MessageDigest combiner = combiner();
+        if (this.mode == StreamMode.RETAIN) {
+            this.arena.forEach(combiner::update);
+        } else if (this.count == 1) {
+            combiner.update(this.first);
         }
+
+        reset();
+        return combiner;
+    }
+
+    private MessageDigest combiner() {
+        if (Objects.isNull(this.combiner)) {
+            try {
+                this.combiner = MessageDigest.getInstance(this.digest.getAlgorithm(), this.digest.getProvider());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return this.combiner;
+    }
+
+    private void drain() {
+        for (byte[] hash; Objects.nonNull(this.hashes) && Objects.nonNull(hash = this.hashes.poll()); ) {
+            offer(hash);
+        }
+    }
+
+    private void reset() {
+        this.arena.clear();
+        this.first = null;
+        this.count = 0;
     }
 }
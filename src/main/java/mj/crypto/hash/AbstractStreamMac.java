@@ -1,62 +1,163 @@
 package mj.crypto.hash;
 
-import mj.crypto.Result;
 import mj.crypto.enums.MacAlgorithm;
+import mj.crypto.enums.StreamMode;
 
 import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.LinkedList;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Queue;
+import java.util.function.LongConsumer;
 
 /**
  * @Project cryptography
  * @Author Montaser Sobaih
  * @Date 05-07-2020
+ *
+ * In {@link StreamMode#FOLD} mode, the default, each input MAC is fed into the combining MAC as soon as it is
+ * offered, so memory stays constant however many inputs are added. {@link StreamMode#RETAIN} keeps every input MAC
+ * in one contiguous array, available through {@link #getMac(int)} until the MAC is finalized.
  */
 
 public abstract class AbstractStreamMac<T> extends AbstractMac<T> {
 
+    /**
+     * @deprecated use {@link #offer(byte[])}; MACs added here are offered when the MAC is read or finalized
+     */
+    @Deprecated
     protected Queue<byte[]> macs = new LinkedList<>();
 
+    private final SecretKey key;
+    private final DigestArena arena = new DigestArena();
+    private javax.crypto.Mac combiner;
+    private StreamMode mode = StreamMode.FOLD;
+    private byte[] first;
+    private int count;
+
     public AbstractStreamMac(MacAlgorithm algorithm, SecretKey key) throws NoSuchAlgorithmException, InvalidKeyException {
         super(algorithm, key);
+        this.key = key;
+    }
+
+    public StreamMode getMode() {
+        return mode;
+    }
+
+    public AbstractStreamMac<T> setMode(StreamMode mode) {
+        if (Objects.isNull(mode)) {
+            throw new IllegalArgumentException("Mode must not be null");
+        }
+
+        drain();
+        if (this.count > 0) {
+            throw new IllegalStateException("Mode cannot change while MACs are pending");
+        }
+
+        this.mode = mode;
+        return this;
+    }
+
+    public int size() {
+        drain();
+        return this.count;
+    }
+
+    public byte[] getMac(int index) {
+        if (this.mode != StreamMode.RETAIN) {
+            throw new IllegalStateException("MACs are only kept in RETAIN mode");
+        }
+
+        drain();
+        return this.arena.get(index);
     }
 
     @Override
     public AbstractMac<T> clear() {
         this.macs = new LinkedList<>();
+        reset();
+        if (Objects.nonNull(this.combiner)) {
+            this.combiner.reset();
+        }
+
         return super.clear();
     }
 
     @Override
-    public final Result finalizeMac(int times) {
-        switch (this.macs.size()) {
-            case 0:
-                return Optional::empty;
-            case 1:
-                if (times > 1) {
-                    this.mac.update(this.macs.poll());
-
-                    while (--times > 1) {
-                        this.mac.update(this.mac.doFinal());
-                    }
-
-                    return () -> Optional.of(this.mac.doFinal());
-                } else {
-                    return () -> Optional.ofNullable(this.macs.poll());
-                }
-            default:
-                while (!this.macs.isEmpty()) {
-                    this.mac.update(this.macs.poll());
-                }
-
-                while (--times > 1) {
-                    this.mac.update(this.mac.doFinal());
-                }
-
-                return () -> Optional.of(this.mac.doFinal());
+    public final int finalizeMac(byte[] output, int offset, long times, LongConsumer progress) throws ShortBufferException {
+        int length = outputLength(output.length - offset);
+        drain();
+        if (this.count == 0) {
+            return 0;
+        }
+
+        if (this.count == 1 && times <= 1) {
+            byte[] mac = single();
+            System.arraycopy(mac, 0, output, offset, mac.length);
+            return mac.length;
+        }
+
+        return Rounds.doFinal(combine(), output, offset, length, times > 1 ? times - 1 : 1, progress);
+    }
+
+    protected final void offer(byte[] mac) {
+        if (this.mode == StreamMode.RETAIN) {
+            this.arena.add(mac);
+        } else if (this.count == 0) {
+            this.first = mac;
+        } else {
+            if (this.count == 1) {
+                combiner().update(this.first);
+                this.first = null;
+            }
+
+            combiner().update(mac);
+        }
+
+        this.count++;
+    }
+
+    private byte[] single() {
+        byte[] mac = this.mode == StreamMode.RETAIN ? this.arena.get(0) : this.first;
+        reset();
+        return mac;
+    }
+
+    private javax.crypto.Mac combine() {
+        javax.crypto.Mac combiner = combiner();
+        if (this.mode == StreamMode.RETAIN) {
+            this.arena.forEach(combiner::update);
+        } else if (this.count == 1) {
+            combiner.update(this.first);
         }
+
+        reset();
+        return combiner;
+    }
+
+    private javax.crypto.Mac combiner() {
+        if (Objects.isNull(this.combiner)) {
+            try {
+                (this.combiner = javax.crypto.Mac.getInstance(this.mac.getAlgorithm(), this.mac.getProvider())).init(this.key);
+            } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return this.combiner;
+    }
+
+    private void drain() {
+        for (byte[] mac; Objects.nonNull(this.macs) && Objects.nonNull(mac = this.macs.poll()); ) {
+            offer(mac);
+        }
+    }
+
+    private void reset() {
+        this.arena.clear();
+        this.first = null;
+        this.count = 0;
     }
 }
@@ -0,0 +1,49 @@
+package mj.crypto.hash;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+final class ArenaPool<A> {
+
+    private final Supplier<A> factory;
+    private final int capacity;
+    private final Queue<A> arenas = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    ArenaPool(Supplier<A> factory, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    A acquire() {
+        A arena = this.arenas.poll();
+        if (Objects.isNull(arena)) {
+            return this.factory.get();
+        }
+
+        this.pooled.decrementAndGet();
+        return arena;
+    }
+
+    void release(A arena) {
+        if (this.pooled.incrementAndGet() > this.capacity) {
+            this.pooled.decrementAndGet();
+            return;
+        }
+
+        this.arenas.offer(arena);
+    }
+}
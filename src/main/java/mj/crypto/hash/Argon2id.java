@@ -0,0 +1,413 @@
+package mj.crypto.hash;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Argon2id, version 0x13, of RFC 9106.
+ *
+ * The memory cost is given in KiB and rounded down to a multiple of {@code 4 * parallelism} blocks of 1 KiB. The lanes
+ * of every slice run on the executor, with the calling thread filling the first lane. Memory is held in one
+ * {@code long[]} arena that is wiped and returned to a pool after each derivation, so repeated derivations reuse it.
+ * The pool keeps at most {@code retainedArenas} arenas of the memory cost resident for the life of the instance,
+ * {@value #DEFAULT_RETAINED_ARENAS} by default, so it holds up to that many times the memory cost even when idle.
+ * Concurrent derivations beyond that allocate arenas that are left to the garbage collector, and zero allocates one for
+ * every derivation.
+ */
+
+public final class Argon2id {
+
+    public static final int VERSION = 0x13;
+    public static final int DEFAULT_RETAINED_ARENAS = 2;
+
+    private static final int TYPE = 2;
+    private static final int BLOCK_WORDS = 128;
+    private static final int BLOCK_BYTES = BLOCK_WORDS * 8;
+    private static final int SYNC_POINTS = 4;
+    private static final int SCRATCH_BLOCKS = 5;
+    private static final int MIN_SALT_LENGTH = 8;
+    private static final int MAX_BLOCKS = (Integer.MAX_VALUE - 8) / BLOCK_WORDS;
+    private static final long LOW = 0xFFFFFFFFL;
+
+    private final int memory;
+    private final int iterations;
+    private final int parallelism;
+    private final int length;
+    private final int retainedArenas;
+    private final int blocks;
+    private final int laneLength;
+    private final int segmentLength;
+    private final Executor executor;
+    private final ArenaPool<long[]> arenas;
+
+    public Argon2id(int memory, int iterations, int parallelism, int length) {
+        this(memory, iterations, parallelism, length, ForkJoinPool.commonPool());
+    }
+
+    public Argon2id(int memory, int iterations, int parallelism, int length, Executor executor) {
+        this(memory, iterations, parallelism, length, executor, DEFAULT_RETAINED_ARENAS);
+    }
+
+    public Argon2id(int memory, int iterations, int parallelism, int length, Executor executor, int retainedArenas) {
+        if (parallelism < 1 || parallelism > 0xFFFFFF) {
+            throw new IllegalArgumentException("Parallelism must be between 1 and 2^24 - 1");
+        }
+
+        if (memory < 8 * parallelism) {
+            throw new IllegalArgumentException("Memory must be at least 8 KiB per lane");
+        }
+
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be positive");
+        }
+
+        if (length < 4) {
+            throw new IllegalArgumentException("Length must be at least 4 bytes");
+        }
+
+        if (Objects.isNull(executor)) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+
+        if (retainedArenas < 0) {
+            throw new IllegalArgumentException("Retained arenas must not be negative");
+        }
+
+        this.segmentLength = memory / (parallelism * SYNC_POINTS);
+        this.laneLength = this.segmentLength * SYNC_POINTS;
+        this.blocks = this.laneLength * parallelism;
+
+        if (this.blocks + parallelism * SCRATCH_BLOCKS > MAX_BLOCKS) {
+            throw new IllegalArgumentException("Memory is too large for one arena");
+        }
+
+        this.memory = memory;
+        this.iterations = iterations;
+        this.parallelism = parallelism;
+        this.length = length;
+        this.retainedArenas = retainedArenas;
+        this.executor = executor;
+        this.arenas = new ArenaPool<>(
+                () -> new long[(this.blocks + this.parallelism * SCRATCH_BLOCKS) * BLOCK_WORDS],
+                retainedArenas
+        );
+    }
+
+    public int getMemory() {
+        return memory;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getRetainedArenas() {
+        return retainedArenas;
+    }
+
+    public byte[] derive(char[] password, byte[] salt) {
+        byte[] bytes = Pbkdf2.encode(password);
+        try {
+            return derive(bytes, salt);
+        } finally {
+            Arrays.fill(bytes, (byte) 0);
+        }
+    }
+
+    public byte[] derive(byte[] password, byte[] salt) {
+        return derive(password, salt, new byte[0], new byte[0]);
+    }
+
+    public byte[] derive(byte[] password, byte[] salt, byte[] secret, byte[] associatedData) {
+        if (Objects.isNull(password)) {
+            throw new IllegalArgumentException("Password must not be null");
+        }
+
+        if (Objects.isNull(salt) || salt.length < MIN_SALT_LENGTH) {
+            throw new IllegalArgumentException(String.format("Salt must be at least %d bytes", MIN_SALT_LENGTH));
+        }
+
+        if (Objects.isNull(secret) || Objects.isNull(associatedData)) {
+            throw new IllegalArgumentException("Secret and associated data must not be null");
+        }
+
+        long[] arena = this.arenas.acquire();
+        try {
+            initialize(arena, password, salt, secret, associatedData);
+
+            for (int pass = 0; pass < this.iterations; pass++) {
+                for (int slice = 0; slice < SYNC_POINTS; slice++) {
+                    fillSlice(arena, pass, slice);
+                }
+            }
+
+            return tag(arena);
+        } finally {
+            // Blocks derived from the password would let a heap dump test guesses without the memory cost
+            Arrays.fill(arena, 0);
+            this.arenas.release(arena);
+        }
+    }
+
+    private void initialize(long[] arena, byte[] password, byte[] salt, byte[] secret, byte[] associatedData) {
+        byte[] seed = new byte[Blake2b.MAX_LENGTH + 8];
+        new Blake2b(Blake2b.MAX_LENGTH)
+                .updateInt(this.parallelism)
+                .updateInt(this.length)
+                .updateInt(this.memory)
+                .updateInt(this.iterations)
+                .updateInt(VERSION)
+                .updateInt(TYPE)
+                .updateInt(password.length).update(password)
+                .updateInt(salt.length).update(salt)
+                .updateInt(secret.length).update(secret)
+                .updateInt(associatedData.length).update(associatedData)
+                .digest(seed, 0);
+
+        byte[] block = new byte[BLOCK_BYTES];
+        for (int lane = 0; lane < this.parallelism; lane++) {
+            for (int column = 0; column < 2; column++) {
+                putInt(seed, Blake2b.MAX_LENGTH, column);
+                putInt(seed, Blake2b.MAX_LENGTH + 4, lane);
+                variableHash(seed, block);
+
+                int offset = (lane * this.laneLength + column) * BLOCK_WORDS;
+                for (int i = 0; i < BLOCK_WORDS; i++) {
+                    arena[offset + i] = Blake2b.littleEndian(block, i << 3);
+                }
+            }
+        }
+
+        Arrays.fill(seed, (byte) 0);
+        Arrays.fill(block, (byte) 0);
+    }
+
+    private byte[] tag(long[] arena) {
+        int last = (this.laneLength - 1) * BLOCK_WORDS;
+        byte[] block = new byte[BLOCK_BYTES];
+        for (int i = 0; i < BLOCK_WORDS; i++) {
+            long word = 0;
+            for (int lane = 0; lane < this.parallelism; lane++) {
+                word ^= arena[lane * this.laneLength * BLOCK_WORDS + last + i];
+            }
+
+            for (int j = 0; j < 8; j++) {
+                block[(i << 3) + j] = (byte) (word >>> (j << 3));
+            }
+        }
+
+        byte[] tag = new byte[this.length];
+        variableHash(block, tag);
+        return tag;
+    }
+
+    private void fillSlice(long[] arena, int pass, int slice) {
+        if (this.parallelism == 1) {
+            fillSegment(arena, pass, slice, 0);
+            return;
+        }
+
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[this.parallelism - 1];
+        for (int lane = 1; lane < this.parallelism; lane++) {
+            int index = lane;
+            lanes[lane - 1] = CompletableFuture.runAsync(() -> fillSegment(arena, pass, slice, index), this.executor);
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(lanes);
+        try {
+            fillSegment(arena, pass, slice, 0);
+        } finally {
+            // No lane may still write to the arena once it is wiped and released
+            all.handle((result, e) -> null).join();
+        }
+
+        all.join();
+    }
+
+    private void fillSegment(long[] arena, int pass, int slice, int lane) {
+        int scratch = (this.blocks + lane * SCRATCH_BLOCKS) * BLOCK_WORDS;
+        int address = scratch + 2 * BLOCK_WORDS;
+        int input = scratch + 3 * BLOCK_WORDS;
+        int zero = scratch + 4 * BLOCK_WORDS;
+
+        boolean independent = pass == 0 && slice < SYNC_POINTS / 2;
+        if (independent) {
+            Arrays.fill(arena, input, zero + BLOCK_WORDS, 0);
+            arena[input] = pass;
+            arena[input + 1] = lane;
+            arena[input + 2] = slice;
+            arena[input + 3] = this.blocks;
+            arena[input + 4] = this.iterations;
+            arena[input + 5] = TYPE;
+        }
+
+        int start = 0;
+        if (pass == 0 && slice == 0) {
+            start = 2;
+            if (independent) {
+                nextAddresses(arena, scratch, address, input, zero);
+            }
+        }
+
+        int current = lane * this.laneLength + slice * this.segmentLength + start;
+        int previous = current % this.laneLength == 0 ? current + this.laneLength - 1 : current - 1;
+
+        for (int index = start; index < this.segmentLength; index++, current++, previous++) {
+            if (current % this.laneLength == 1) {
+                previous = current - 1;
+            }
+
+            long random;
+            if (independent) {
+                if (index % BLOCK_WORDS == 0) {
+                    nextAddresses(arena, scratch, address, input, zero);
+                }
+
+                random = arena[address + index % BLOCK_WORDS];
+            } else {
+                random = arena[previous * BLOCK_WORDS];
+            }
+
+            int referenceLane = pass == 0 && slice == 0 ? lane : (int) ((random >>> 32) % this.parallelism);
+            int referenceIndex = referenceIndex(pass, slice, index, random & LOW, referenceLane == lane);
+
+            fillBlock(
+                    arena,
+                    scratch,
+                    previous * BLOCK_WORDS,
+                    (referenceLane * this.laneLength + referenceIndex) * BLOCK_WORDS,
+                    current * BLOCK_WORDS,
+                    pass > 0
+            );
+        }
+    }
+
+    private int referenceIndex(int pass, int slice, int index, long random, boolean sameLane) {
+        long area;
+        if (pass == 0) {
+            if (slice == 0) {
+                area = index - 1;
+            } else if (sameLane) {
+                area = (long) slice * this.segmentLength + index - 1;
+            } else {
+                area = (long) slice * this.segmentLength + (index == 0 ? -1 : 0);
+            }
+        } else if (sameLane) {
+            area = this.laneLength - this.segmentLength + index - 1;
+        } else {
+            area = this.laneLength - this.segmentLength + (index == 0 ? -1 : 0);
+        }
+
+        long relative = (random * random) >>> 32;
+        relative = area - 1 - ((area * relative) >>> 32);
+
+        long start = pass != 0 && slice != SYNC_POINTS - 1 ? (long) (slice + 1) * this.segmentLength : 0;
+        return (int) ((start + relative) % this.laneLength);
+    }
+
+    private static void nextAddresses(long[] arena, int scratch, int address, int input, int zero) {
+        arena[input + 6]++;
+        fillBlock(arena, scratch, zero, input, address, false);
+        fillBlock(arena, scratch, zero, address, address, false);
+    }
+
+    private static void fillBlock(long[] arena, int scratch, int previous, int reference, int next, boolean xor) {
+        int r = scratch;
+        int t = scratch + BLOCK_WORDS;
+
+        for (int i = 0; i < BLOCK_WORDS; i++) {
+            long word = arena[reference + i] ^ arena[previous + i];
+            arena[r + i] = word;
+            arena[t + i] = xor ? word ^ arena[next + i] : word;
+        }
+
+        for (int i = 0; i < 8; i++) {
+            permute(arena, r + 16 * i, 2);
+        }
+
+        for (int i = 0; i < 8; i++) {
+            permute(arena, r + 2 * i, 16);
+        }
+
+        for (int i = 0; i < BLOCK_WORDS; i++) {
+            arena[next + i] = arena[t + i] ^ arena[r + i];
+        }
+    }
+
+    private static void permute(long[] v, int offset, int step) {
+        int v0 = offset, v2 = offset + step, v4 = offset + 2 * step, v6 = offset + 3 * step;
+        int v8 = offset + 4 * step, v10 = offset + 5 * step, v12 = offset + 6 * step, v14 = offset + 7 * step;
+
+        mix(v, v0, v4, v8, v12);
+        mix(v, v0 + 1, v4 + 1, v8 + 1, v12 + 1);
+        mix(v, v2, v6, v10, v14);
+        mix(v, v2 + 1, v6 + 1, v10 + 1, v14 + 1);
+        mix(v, v0, v4 + 1, v10, v14 + 1);
+        mix(v, v0 + 1, v6, v10 + 1, v12);
+        mix(v, v2, v6 + 1, v8, v12 + 1);
+        mix(v, v2 + 1, v4, v8 + 1, v14);
+    }
+
+    private static void mix(long[] v, int a, int b, int c, int d) {
+        long va = v[a], vb = v[b], vc = v[c], vd = v[d];
+
+        va += vb + 2 * (va & LOW) * (vb & LOW);
+        vd = Long.rotateRight(vd ^ va, 32);
+        vc += vd + 2 * (vc & LOW) * (vd & LOW);
+        vb = Long.rotateRight(vb ^ vc, 24);
+        va += vb + 2 * (va & LOW) * (vb & LOW);
+        vd = Long.rotateRight(vd ^ va, 16);
+        vc += vd + 2 * (vc & LOW) * (vd & LOW);
+        vb = Long.rotateRight(vb ^ vc, 63);
+
+        v[a] = va;
+        v[b] = vb;
+        v[c] = vc;
+        v[d] = vd;
+    }
+
+    private static void variableHash(byte[] input, byte[] output) {
+        int length = output.length;
+        Blake2b blake = new Blake2b(Math.min(length, Blake2b.MAX_LENGTH)).updateInt(length).update(input);
+        if (length <= Blake2b.MAX_LENGTH) {
+            blake.digest(output, 0);
+            return;
+        }
+
+        int half = Blake2b.MAX_LENGTH / 2;
+        byte[] v = new byte[Blake2b.MAX_LENGTH];
+        blake.digest(v, 0);
+        System.arraycopy(v, 0, output, 0, half);
+
+        int offset = half;
+        while (length - offset > Blake2b.MAX_LENGTH) {
+            blake.reset(Blake2b.MAX_LENGTH).update(v).digest(v, 0);
+            System.arraycopy(v, 0, output, offset, half);
+            offset += half;
+        }
+
+        blake.reset(length - offset).update(v).digest(output, offset);
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >>> 8);
+        bytes[offset + 2] = (byte) (value >>> 16);
+        bytes[offset + 3] = (byte) (value >>> 24);
+    }
+}
@@ -0,0 +1,86 @@
+package mj.crypto.hash;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Runs a digest on an executor. The future completes with the digest or with the exception that stopped it, and
+ * cancelling it stops the read at the next chunk. A resource passed along, usually the input stream, is closed on
+ * cancellation so that a read blocked on it returns, and when the executor rejects the work.
+ */
+
+final class AsyncDigest {
+
+    private AsyncDigest() {
+    }
+
+    static CompletableFuture<byte[]> supply(Executor executor, Work work) {
+        return supply(executor, null, work);
+    }
+
+    static CompletableFuture<byte[]> supply(Executor executor, Closeable resource, Work work) {
+        if (Objects.isNull(executor)) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        if (Objects.nonNull(resource)) {
+            future.whenComplete((result, e) -> {
+                if (future.isCancelled()) {
+                    try {
+                        resource.close();
+                    } catch (IOException ignored) {
+                    }
+                }
+            });
+        }
+
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+
+                try {
+                    future.complete(work.run(future::isCancelled));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The work never runs, so nothing else closes the resource
+            if (Objects.nonNull(resource)) {
+                try {
+                    resource.close();
+                } catch (IOException ignored) {
+                }
+            }
+
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    static void check(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException();
+        }
+    }
+
+    @FunctionalInterface
+    interface Work {
+
+        byte[] run(BooleanSupplier cancelled) throws Exception;
+    }
+}
@@ -0,0 +1,157 @@
+package mj.crypto.hash;
+
+import java.util.Arrays;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Unkeyed BLAKE2b of RFC 7693 with an output of 1 to 64 bytes.
+ */
+
+final class Blake2b {
+
+    static final int MAX_LENGTH = 64;
+
+    private static final int BLOCK_LENGTH = 128;
+
+    private static final long[] IV = {
+            0x6a09e667f3bcc908L, 0xbb67ae8584caa73bL, 0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L,
+            0x510e527fade682d1L, 0x9b05688c2b3e6c1fL, 0x1f83d9abfb41bd6bL, 0x5be0cd19137e2179L
+    };
+
+    private static final byte[][] SIGMA = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+            {14, 10, 4, 8, 9, 15, 13, 6, 1, 12, 0, 2, 11, 7, 5, 3},
+            {11, 8, 12, 0, 5, 2, 15, 13, 10, 14, 3, 6, 7, 1, 9, 4},
+            {7, 9, 3, 1, 13, 12, 11, 14, 2, 6, 5, 10, 4, 0, 15, 8},
+            {9, 0, 5, 7, 2, 4, 10, 15, 14, 1, 11, 12, 6, 8, 3, 13},
+            {2, 12, 6, 10, 0, 11, 8, 3, 4, 13, 7, 5, 15, 14, 1, 9},
+            {12, 5, 1, 15, 14, 13, 4, 10, 0, 7, 6, 3, 9, 2, 8, 11},
+            {13, 11, 7, 14, 12, 1, 3, 9, 5, 0, 15, 4, 8, 6, 2, 10},
+            {6, 15, 14, 9, 11, 3, 0, 8, 12, 2, 13, 7, 1, 4, 10, 5},
+            {10, 2, 8, 4, 7, 6, 1, 5, 15, 11, 9, 14, 3, 12, 13, 0},
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+            {14, 10, 4, 8, 9, 15, 13, 6, 1, 12, 0, 2, 11, 7, 5, 3}
+    };
+
+    private final long[] h = new long[8];
+    private final long[] v = new long[16];
+    private final long[] m = new long[16];
+    private final byte[] buffer = new byte[BLOCK_LENGTH];
+    private final byte[] word = new byte[4];
+    private int length;
+    private int buffered;
+    private long counter;
+
+    Blake2b(int length) {
+        reset(length);
+    }
+
+    Blake2b reset(int length) {
+        if (length < 1 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException(String.format("Length must be between 1 and %d", MAX_LENGTH));
+        }
+
+        System.arraycopy(IV, 0, this.h, 0, IV.length);
+        this.h[0] ^= 0x01010000L ^ length;
+        this.length = length;
+        this.buffered = 0;
+        this.counter = 0;
+        return this;
+    }
+
+    Blake2b update(byte[] input, int offset, int length) {
+        while (length > 0) {
+            if (this.buffered == BLOCK_LENGTH) {
+                this.counter += BLOCK_LENGTH;
+                compress(this.buffer, 0, false);
+                this.buffered = 0;
+            }
+
+            int count = Math.min(length, BLOCK_LENGTH - this.buffered);
+            System.arraycopy(input, offset, this.buffer, this.buffered, count);
+            this.buffered += count;
+            offset += count;
+            length -= count;
+        }
+
+        return this;
+    }
+
+    Blake2b update(byte[] input) {
+        return update(input, 0, input.length);
+    }
+
+    Blake2b updateInt(int value) {
+        this.word[0] = (byte) value;
+        this.word[1] = (byte) (value >>> 8);
+        this.word[2] = (byte) (value >>> 16);
+        this.word[3] = (byte) (value >>> 24);
+        return update(this.word, 0, this.word.length);
+    }
+
+    int digest(byte[] output, int offset) {
+        this.counter += this.buffered;
+        Arrays.fill(this.buffer, this.buffered, BLOCK_LENGTH, (byte) 0);
+        compress(this.buffer, 0, true);
+
+        for (int i = 0; i < this.length; i++) {
+            output[offset + i] = (byte) (this.h[i >>> 3] >>> ((i & 7) << 3));
+        }
+
+        return this.length;
+    }
+
+    private void compress(byte[] block, int offset, boolean last) {
+        for (int i = 0; i < 16; i++) {
+            this.m[i] = littleEndian(block, offset + (i << 3));
+        }
+
+        System.arraycopy(this.h, 0, this.v, 0, 8);
+        System.arraycopy(IV, 0, this.v, 8, 8);
+        this.v[12] ^= this.counter;
+        if (last) {
+            this.v[14] = ~this.v[14];
+        }
+
+        for (byte[] s : SIGMA) {
+            mix(0, 4, 8, 12, this.m[s[0]], this.m[s[1]]);
+            mix(1, 5, 9, 13, this.m[s[2]], this.m[s[3]]);
+            mix(2, 6, 10, 14, this.m[s[4]], this.m[s[5]]);
+            mix(3, 7, 11, 15, this.m[s[6]], this.m[s[7]]);
+            mix(0, 5, 10, 15, this.m[s[8]], this.m[s[9]]);
+            mix(1, 6, 11, 12, this.m[s[10]], this.m[s[11]]);
+            mix(2, 7, 8, 13, this.m[s[12]], this.m[s[13]]);
+            mix(3, 4, 9, 14, this.m[s[14]], this.m[s[15]]);
+        }
+
+        for (int i = 0; i < 8; i++) {
+            this.h[i] ^= this.v[i] ^ this.v[i + 8];
+        }
+    }
+
+    private void mix(int a, int b, int c, int d, long x, long y) {
+        long[] v = this.v;
+        v[a] += v[b] + x;
+        v[d] = Long.rotateRight(v[d] ^ v[a], 32);
+        v[c] += v[d];
+        v[b] = Long.rotateRight(v[b] ^ v[c], 24);
+        v[a] += v[b] + y;
+        v[d] = Long.rotateRight(v[d] ^ v[a], 16);
+        v[c] += v[d];
+        v[b] = Long.rotateRight(v[b] ^ v[c], 63);
+    }
+
+    static long littleEndian(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL)
+                | (bytes[offset + 1] & 0xFFL) << 8
+                | (bytes[offset + 2] & 0xFFL) << 16
+                | (bytes[offset + 3] & 0xFFL) << 24
+                | (bytes[offset + 4] & 0xFFL) << 32
+                | (bytes[offset + 5] & 0xFFL) << 40
+                | (bytes[offset + 6] & 0xFFL) << 48
+                | (bytes[offset + 7] & 0xFFL) << 56;
+    }
+}
@@ -0,0 +1,85 @@
+package mj.crypto.hash;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+public final class BufferPool {
+
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    private static final Map<Long, BufferPool> SHARED = new ConcurrentHashMap<>();
+
+    private final int bufferSize;
+    private final boolean direct;
+    private final int capacity;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    public BufferPool(int bufferSize, boolean direct) {
+        this(bufferSize, direct, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public BufferPool(int bufferSize, boolean direct, int capacity) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+        this.capacity = capacity;
+    }
+
+    public static BufferPool shared(int bufferSize, boolean direct) {
+        long key = ((long) bufferSize << 1) | (direct ? 1 : 0);
+        return SHARED.computeIfAbsent(key, k -> new BufferPool(bufferSize, direct));
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = this.buffers.poll();
+        if (Objects.isNull(buffer)) {
+            return this.direct ? ByteBuffer.allocateDirect(this.bufferSize) : ByteBuffer.allocate(this.bufferSize);
+        }
+
+        this.pooled.decrementAndGet();
+        ((Buffer) buffer).clear();
+        return buffer;
+    }
+
+    public void release(ByteBuffer buffer) {
+        if (Objects.isNull(buffer) || buffer.capacity() != this.bufferSize || buffer.isDirect() != this.direct) {
+            return;
+        }
+
+        if (this.pooled.incrementAndGet() > this.capacity) {
+            this.pooled.decrementAndGet();
+            return;
+        }
+
+        ((Buffer) buffer).clear();
+        this.buffers.offer(buffer);
+    }
+}
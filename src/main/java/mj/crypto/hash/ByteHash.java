@@ -3,8 +3,14 @@ package mj.crypto.hash;
 import mj.crypto.enums.HashAlgorithm;
 
 import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,13 +22,21 @@ import java.util.logging.Logger;
 
 public final class ByteHash extends AbstractHash<ByteBuffer> {
 
+    private static final HashPool<ByteHash> POOL = new HashPool<>(ByteHash::new);
+    private static final int PARALLEL_BATCH_SIZE = 4096;
+
     public ByteHash(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
         super(algorithm);
     }
 
     public static Optional<byte[]> hash(HashAlgorithm algorithm, ByteBuffer input) {
         try {
-            return new ByteHash(algorithm).add(input).finalizeHash().getResult();
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input).finalizeHash().getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -31,7 +45,12 @@ public final class ByteHash extends AbstractHash<ByteBuffer> {
 
     public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, ByteBuffer input, int times) {
         try {
-            return new ByteHash(algorithm).add(input).finalizeHash(times).getResult();
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input).finalizeHash(times).getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -40,7 +59,12 @@ public final class ByteHash extends AbstractHash<ByteBuffer> {
 
     public static Optional<byte[]> hash(HashAlgorithm algorithm, byte input) {
         try {
-            return new ByteHash(algorithm).add(input).finalizeHash().getResult();
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input).finalizeHash().getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -49,7 +73,12 @@ public final class ByteHash extends AbstractHash<ByteBuffer> {
 
     public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, byte input, int times) {
         try {
-            return new ByteHash(algorithm).add(input).finalizeHash(times).getResult();
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input).finalizeHash(times).getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -58,7 +87,12 @@ public final class ByteHash extends AbstractHash<ByteBuffer> {
 
     public static Optional<byte[]> hash(HashAlgorithm algorithm, byte[] input) {
         try {
-            return new ByteHash(algorithm).add(input).finalizeHash().getResult();
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input).finalizeHash().getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -67,7 +101,26 @@ public final class ByteHash extends AbstractHash<ByteBuffer> {
 
     public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, byte[] input, int times) {
         try {
-            return new ByteHash(algorithm).add(input).finalizeHash(times).getResult();
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input).finalizeHash(times).getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, byte[] input, long times, LongConsumer progress) {
+        try {
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input).finalizeHash(times, progress).getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -76,7 +129,12 @@ public final class ByteHash extends AbstractHash<ByteBuffer> {
 
     public static Optional<byte[]> hash(HashAlgorithm algorithm, byte[] input, int offset, int limit) {
         try {
-            return new ByteHash(algorithm).add(input, offset, limit).finalizeHash().getResult();
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input, offset, limit).finalizeHash().getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -85,13 +143,87 @@ public final class ByteHash extends AbstractHash<ByteBuffer> {
 
     public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, byte[] input, int offset, int limit, int times) {
         try {
-            return new ByteHash(algorithm).add(input, offset, limit).finalizeHash(times).getResult();
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input, offset, limit).finalizeHash(times).getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<byte[]> hashBatch(HashAlgorithm algorithm, byte[][] inputs) {
+        return hashBatch(algorithm, inputs.length, (digest, index) -> digest.update(inputs[index]));
+    }
+
+    public static Optional<byte[]> hashBatch(HashAlgorithm algorithm, byte[] input, int[] offsets, int[] limits) {
+        if (offsets.length != limits.length) {
+            throw new IllegalArgumentException("Offsets and limits must have the same length");
+        }
+
+        return hashBatch(algorithm, offsets.length, (digest, index) -> digest.update(input, offsets[index], limits[index]));
+    }
+
+    private static Optional<byte[]> hashBatch(HashAlgorithm algorithm, int count, Batch batch) {
+        try {
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                // Bounding the whole output also keeps every index * length offset within an int
+                long size = (long) count * hash.digest.getDigestLength();
+                if (size > Integer.MAX_VALUE - 8) {
+                    throw new IllegalArgumentException("Batch output would exceed the maximum array length");
+                }
+
+                byte[] output = new byte[(int) size];
+
+                if (count < PARALLEL_BATCH_SIZE || ForkJoinPool.getCommonPoolParallelism() < 2) {
+                    hash.hashBatch(batch, 0, count, output);
+                } else {
+                    int chunks = (count + PARALLEL_BATCH_SIZE - 1) / PARALLEL_BATCH_SIZE;
+                    ForkJoinPool.commonPool().submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> hashBatch(
+                            algorithm, batch, chunk * PARALLEL_BATCH_SIZE, Math.min(count, (chunk + 1) * PARALLEL_BATCH_SIZE), output
+                    ))).join();
+                }
+
+                return Optional.of(output);
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
         }
     }
 
+    private static void hashBatch(HashAlgorithm algorithm, Batch batch, int from, int to, byte[] output) {
+        try {
+            ByteHash hash = POOL.acquire(algorithm);
+            try {
+                hash.hashBatch(batch, from, to, output);
+            } finally {
+                POOL.release(algorithm, hash);
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void hashBatch(Batch batch, int from, int to, byte[] output) {
+        int length = this.digest.getDigestLength();
+
+        try {
+            for (int index = from; index < to; index++) {
+                batch.update(this.digest, index);
+                this.digest.digest(output, index * length, length);
+            }
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     public ByteHash add(ByteBuffer input) {
         digest.update(input);
@@ -99,6 +231,35 @@ public final class ByteHash extends AbstractHash<ByteBuffer> {
         return this;
     }
 
+    /**
+     * Adds the remaining bytes of {@code length} buffers from {@code offset} in order and moves their positions to their
+     * limits, like a gathering write.
+     */
+    public ByteHash add(ByteBuffer[] inputs, int offset, int length) {
+        if (Objects.isNull(inputs)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        if (offset < 0 || length < 0 || offset > inputs.length - length) {
+            throw new IllegalArgumentException("Offset and length must be within the inputs");
+        }
+
+        for (int i = offset; i < offset + length; i++) {
+            if (Objects.isNull(inputs[i])) {
+                throw new IllegalArgumentException("Input must not be null");
+            }
+        }
+
+        for (int i = offset; i < offset + length; i++) {
+            if (inputs[i].hasRemaining()) {
+                this.digest.update(inputs[i]);
+                this.empty = false;
+            }
+        }
+
+        return this;
+    }
+
     public ByteHash add(byte input) {
         digest.update(input);
         this.empty = false;
@@ -116,4 +277,10 @@ public final class ByteHash extends AbstractHash<ByteBuffer> {
         this.empty = false;
         return this;
     }
-}
\ No newline at end of file
+
+    @FunctionalInterface
+    private interface Batch {
+
+        void update(MessageDigest digest, int index);
+    }
+}
@@ -3,11 +3,15 @@ package mj.crypto.hash;
 import mj.crypto.enums.MacAlgorithm;
 
 import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
 import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,10 +23,16 @@ import java.util.logging.Logger;
 
 public final class ByteMac extends AbstractMac<ByteBuffer> {
 
+    private static final int PARALLEL_BATCH_SIZE = 4096;
+
     public ByteMac(MacAlgorithm algorithm, SecretKey key) throws NoSuchAlgorithmException, InvalidKeyException {
         super(algorithm, key);
     }
 
+    ByteMac(javax.crypto.Mac mac) {
+        super(mac);
+    }
+
     public static Optional<byte[]> mac(MacAlgorithm algorithm, SecretKey key, ByteBuffer input) {
         try {
             return new ByteMac(algorithm, key).add(input).finalizeMac().getResult();
@@ -77,6 +87,17 @@ public final class ByteMac extends AbstractMac<ByteBuffer> {
         }
     }
 
+    public static Optional<byte[]> macTimes(
+            MacAlgorithm algorithm, SecretKey key, byte[] input, long times, LongConsumer progress
+    ) {
+        try {
+            return new ByteMac(algorithm, key).add(input).finalizeMac(times, progress).getResult();
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public static Optional<byte[]> mac(MacAlgorithm algorithm, SecretKey key, byte[] input, int offset, int limit) {
         try {
             return new ByteMac(algorithm, key).add(input, offset, limit).finalizeMac().getResult();
@@ -97,6 +118,79 @@ public final class ByteMac extends AbstractMac<ByteBuffer> {
         }
     }
 
+    /**
+     * The key is only held for the call; to keep its initialized state for later batches, use
+     * {@link MacTemplate#macBatch(byte[][])} on a template from {@link MacTemplate#of(MacAlgorithm, SecretKey)}.
+     */
+    public static Optional<byte[]> macBatch(MacAlgorithm algorithm, SecretKey key, byte[][] inputs) {
+        try {
+            return macBatch(new MacTemplate(algorithm, key), inputs);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<byte[]> macBatch(
+            MacAlgorithm algorithm, SecretKey key, byte[] input, int[] offsets, int[] limits
+    ) {
+        try {
+            return macBatch(new MacTemplate(algorithm, key), input, offsets, limits);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    static Optional<byte[]> macBatch(MacTemplate template, byte[][] inputs) {
+        return macBatch(template, inputs.length, (mac, index) -> mac.update(inputs[index]));
+    }
+
+    static Optional<byte[]> macBatch(MacTemplate template, byte[] input, int[] offsets, int[] limits) {
+        if (offsets.length != limits.length) {
+            throw new IllegalArgumentException("Offsets and limits must have the same length");
+        }
+
+        return macBatch(template, offsets.length, (mac, index) -> mac.update(input, offsets[index], limits[index]));
+    }
+
+    private static Optional<byte[]> macBatch(MacTemplate template, int count, Batch batch) {
+        ByteMac mac = template.newByteMac();
+        // Bounding the whole output also keeps every index * length offset within an int
+        long size = (long) count * mac.mac.getMacLength();
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Batch output would exceed the maximum array length");
+        }
+
+        byte[] output = new byte[(int) size];
+
+        if (count < PARALLEL_BATCH_SIZE || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            mac.macBatch(batch, 0, count, output);
+        } else {
+            int chunks = (count + PARALLEL_BATCH_SIZE - 1) / PARALLEL_BATCH_SIZE;
+            ForkJoinPool.commonPool().submit(() -> IntStream.range(0, chunks).parallel().forEach(
+                    chunk -> template.newByteMac().macBatch(
+                            batch, chunk * PARALLEL_BATCH_SIZE, Math.min(count, (chunk + 1) * PARALLEL_BATCH_SIZE), output
+                    )
+            )).join();
+        }
+
+        return Optional.of(output);
+    }
+
+    private void macBatch(Batch batch, int from, int to, byte[] output) {
+        int length = this.mac.getMacLength();
+
+        try {
+            for (int index = from; index < to; index++) {
+                batch.update(this.mac, index);
+                this.mac.doFinal(output, index * length);
+            }
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     public ByteMac add(ByteBuffer input) {
         if (Objects.isNull(input)) {
@@ -108,6 +202,35 @@ public final class ByteMac extends AbstractMac<ByteBuffer> {
         return this;
     }
 
+    /**
+     * Adds the remaining bytes of {@code length} buffers from {@code offset} in order and moves their positions to their
+     * limits, like a gathering write.
+     */
+    public ByteMac add(ByteBuffer[] inputs, int offset, int length) {
+        if (Objects.isNull(inputs)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        if (offset < 0 || length < 0 || offset > inputs.length - length) {
+            throw new IllegalArgumentException("Offset and length must be within the inputs");
+        }
+
+        for (int i = offset; i < offset + length; i++) {
+            if (Objects.isNull(inputs[i])) {
+                throw new IllegalArgumentException("Input must not be null");
+            }
+        }
+
+        for (int i = offset; i < offset + length; i++) {
+            if (inputs[i].hasRemaining()) {
+                this.mac.update(inputs[i]);
+                this.empty = false;
+            }
+        }
+
+        return this;
+    }
+
     public ByteMac add(byte input) {
         this.mac.update(input);
         this.empty = false;
@@ -133,4 +256,10 @@ public final class ByteMac extends AbstractMac<ByteBuffer> {
         this.empty = false;
         return this;
     }
-}
\ No newline at end of file
+
+    @FunctionalInterface
+    private interface Batch {
+
+        void update(javax.crypto.Mac mac, int index);
+    }
+}
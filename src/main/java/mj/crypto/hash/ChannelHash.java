@@ -0,0 +1,75 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.ReadMode;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Drains a channel to its end through a pooled direct buffer that is handed to the digest as it is, and closes the
+ * channel. Selectable channels must be in blocking mode; a channel that is not is closed and rejected.
+ */
+
+public final class ChannelHash extends AbstractStreamHash<ReadableByteChannel> {
+
+    private final ChannelReader reader;
+
+    public ChannelHash(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        this(algorithm, BufferPool.DEFAULT_BUFFER_SIZE);
+    }
+
+    public ChannelHash(HashAlgorithm algorithm, int bufferSize) throws NoSuchAlgorithmException {
+        super(algorithm);
+        this.reader = new ChannelReader(ReadMode.DIRECT, bufferSize);
+    }
+
+    public static Optional<byte[]> hash(HashAlgorithm algorithm, ReadableByteChannel input) {
+        try {
+            return new ChannelHash(algorithm).add(input).finalizeHash().getResult();
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, ReadableByteChannel input, int times) {
+        try {
+            return new ChannelHash(algorithm).add(input).finalizeHash(times).getResult();
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public ChannelHash add(ReadableByteChannel input) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        try (ReadableByteChannel channel = input) {
+            if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+                throw new IllegalArgumentException("Channel must be in blocking mode");
+            }
+
+            this.reader.read(channel, this.digest::update);
+            offer(this.digest.digest());
+        } catch (IOException e) {
+            this.digest.reset();
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        }
+
+        return this;
+    }
+}
@@ -0,0 +1,79 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.MacAlgorithm;
+import mj.crypto.enums.ReadMode;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Drains a channel to its end through a pooled direct buffer that is handed to the MAC as it is, and closes the
+ * channel. Selectable channels must be in blocking mode; a channel that is not is closed and rejected.
+ */
+
+public final class ChannelMac extends AbstractStreamMac<ReadableByteChannel> {
+
+    private final ChannelReader reader;
+
+    public ChannelMac(MacAlgorithm algorithm, SecretKey key) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(algorithm, key, BufferPool.DEFAULT_BUFFER_SIZE);
+    }
+
+    public ChannelMac(
+            MacAlgorithm algorithm, SecretKey key, int bufferSize
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        super(algorithm, key);
+        this.reader = new ChannelReader(ReadMode.DIRECT, bufferSize);
+    }
+
+    public static Optional<byte[]> mac(MacAlgorithm algorithm, SecretKey key, ReadableByteChannel input) {
+        try {
+            return new ChannelMac(algorithm, key).add(input).finalizeMac().getResult();
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<byte[]> macTimes(MacAlgorithm algorithm, SecretKey key, ReadableByteChannel input, int times) {
+        try {
+            return new ChannelMac(algorithm, key).add(input).finalizeMac(times).getResult();
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public ChannelMac add(ReadableByteChannel input) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        try (ReadableByteChannel channel = input) {
+            if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+                throw new IllegalArgumentException("Channel must be in blocking mode");
+            }
+
+            this.reader.read(channel, this.mac::update);
+            offer(this.mac.doFinal());
+        } catch (IOException e) {
+            this.mac.reset();
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        }
+
+        return this;
+    }
+}
@@ -0,0 +1,187 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.ReadMode;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * In {@link ReadMode#OVERLAPPED} mode the reads of the next chunks are already in flight on an
+ * {@link AsynchronousFileChannel} while the current chunk is handed to the sink, using a ring of direct buffers.
+ *
+ * In {@link ReadMode#MAPPED} mode the file is mapped in windows of the map size, and each window is unmapped once the
+ * sink returns, so a file of any size only takes one window of address space. Sinks must not keep the buffer.
+ * {@link ReadMode#AUTO} maps files of at least {@link #MAPPED_THRESHOLD} bytes and reads smaller ones.
+ */
+
+final class ChannelReader {
+
+    static final int DEFAULT_RING_SIZE = 4;
+    static final int DEFAULT_MAP_SIZE = 64 * 1024 * 1024;
+    static final long MAPPED_THRESHOLD = 4 * 1024 * 1024;
+
+    private final ReadMode mode;
+    private final BufferPool pool;
+    private final int ringSize;
+    private final int mapSize;
+
+    ChannelReader(ReadMode mode, int bufferSize) {
+        this(mode, bufferSize, DEFAULT_RING_SIZE);
+    }
+
+    ChannelReader(ReadMode mode, int bufferSize, int ringSize) {
+        this(mode, bufferSize, ringSize, DEFAULT_MAP_SIZE);
+    }
+
+    ChannelReader(ReadMode mode, int bufferSize, int ringSize, int mapSize) {
+        if (ringSize <= 0) {
+            throw new IllegalArgumentException("Ring size must be positive");
+        }
+
+        if (mapSize <= 0) {
+            throw new IllegalArgumentException("Map size must be positive");
+        }
+
+        this.mode = mode;
+        this.pool = BufferPool.shared(bufferSize, mode == ReadMode.DIRECT || mode == ReadMode.OVERLAPPED);
+        this.ringSize = ringSize;
+        this.mapSize = mapSize;
+    }
+
+    int getMapSize() {
+        return mapSize;
+    }
+
+    void read(Path path, Consumer<ByteBuffer> sink) throws IOException {
+        if (this.mode == ReadMode.OVERLAPPED) {
+            try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ)) {
+                read(channel, sink);
+            }
+
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (this.mode == ReadMode.MAPPED || this.mode == ReadMode.AUTO && channel.size() >= MAPPED_THRESHOLD) {
+                map(channel, sink);
+            } else {
+                read(channel, sink);
+            }
+        }
+    }
+
+    void read(AsynchronousFileChannel channel, Consumer<ByteBuffer> sink) throws IOException {
+        long size = channel.size();
+        int chunk = this.pool.getBufferSize();
+        long chunks = (size + chunk - 1) / chunk;
+
+        ByteBuffer[] buffers = new ByteBuffer[(int) Math.min(this.ringSize, chunks)];
+        List<Future<Integer>> reads = new ArrayList<>(Collections.nCopies(buffers.length, null));
+
+        try {
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = this.pool.acquire();
+                reads.set(i, channel.read(buffers[i], (long) i * chunk));
+            }
+
+            for (long index = 0; index < chunks; index++) {
+                int slot = (int) (index % buffers.length);
+                ByteBuffer buffer = buffers[slot];
+                long position = index * chunk;
+                long end = Math.min(size, position + chunk);
+
+                int read = await(reads.get(slot));
+                reads.set(slot, null);
+                while (read > -1 && position + buffer.position() < end && buffer.hasRemaining()) {
+                    read = await(channel.read(buffer, position + buffer.position()));
+                }
+
+                ((Buffer) buffer).flip();
+                sink.accept(buffer);
+                ((Buffer) buffer).clear();
+
+                long next = index + buffers.length;
+                if (next < chunks) {
+                    reads.set(slot, channel.read(buffer, next * chunk));
+                }
+            }
+        } finally {
+            for (int i = 0; i < buffers.length; i++) {
+                if (Objects.nonNull(reads.get(i))) {
+                    try {
+                        await(reads.get(i));
+                    } catch (IOException e) {
+                        // A read may still be writing into this buffer, so it is left out of the pool
+                        continue;
+                    }
+                }
+
+                if (Objects.nonNull(buffers[i])) {
+                    this.pool.release(buffers[i]);
+                }
+            }
+        }
+    }
+
+    void read(ReadableByteChannel channel, Consumer<ByteBuffer> sink) throws IOException {
+        ByteBuffer buffer = this.pool.acquire();
+        try {
+            while (channel.read(buffer) > -1) {
+                ((Buffer) buffer).flip();
+                sink.accept(buffer);
+                ((Buffer) buffer).clear();
+            }
+        } finally {
+            this.pool.release(buffer);
+        }
+    }
+
+    private void map(FileChannel channel, Consumer<ByteBuffer> sink) throws IOException {
+        long size = channel.size();
+        for (long position = 0; position < size; position += this.mapSize) {
+            MappedByteBuffer buffer = channel.map(
+                    FileChannel.MapMode.READ_ONLY, position, Math.min(this.mapSize, size - position)
+            );
+
+            try {
+                sink.accept(buffer);
+            } finally {
+                Unmapper.unmap(buffer);
+            }
+        }
+    }
+
+    private static int await(Future<Integer> read) throws IOException {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new IOException(e.getCause());
+        }
+    }
+}
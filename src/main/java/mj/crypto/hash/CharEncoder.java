@@ -0,0 +1,117 @@
+package mj.crypto.hash;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+final class CharEncoder {
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private final Charset charset;
+    private final StreamReader.Chunk sink;
+    private final char direct;
+    private final byte[] bytes = new byte[BUFFER_SIZE];
+    private final ByteBuffer buffer = ByteBuffer.wrap(this.bytes);
+    private CharsetEncoder encoder;
+
+    CharEncoder(Charset charset, StreamReader.Chunk sink) {
+        if (Objects.isNull(charset)) {
+            throw new IllegalArgumentException("Charset must not be null");
+        }
+
+        this.charset = charset;
+        this.sink = sink;
+
+        if (charset.equals(StandardCharsets.ISO_8859_1)) {
+            this.direct = 0x100;
+        } else if (charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)) {
+            this.direct = 0x80;
+        } else {
+            this.direct = 0;
+        }
+    }
+
+    static void checkRange(CharSequence input, int start, int end) {
+        if (start < 0 || end > input.length() || start > end) {
+            throw new StringIndexOutOfBoundsException(
+                    String.format("begin %d, end %d, length %d", start, end, input.length())
+            );
+        }
+    }
+
+    void encode(CharSequence input, int start, int end) {
+        int index = start;
+        int length = 0;
+
+        for (char c; index < end && (c = input.charAt(index)) < this.direct; index++) {
+            this.bytes[length++] = (byte) c;
+
+            if (length == this.bytes.length) {
+                this.sink.update(this.bytes, 0, length);
+                length = 0;
+            }
+        }
+
+        if (length > 0) {
+            this.sink.update(this.bytes, 0, length);
+        }
+
+        if (index < end) {
+            encode(CharBuffer.wrap(input, index, end));
+        }
+    }
+
+    private void encode(CharBuffer input) {
+        CharsetEncoder encoder = encoder().reset();
+
+        CoderResult result;
+        do {
+            result = encoder.encode(input, this.buffer, true);
+            drain(result);
+        } while (result.isOverflow());
+
+        do {
+            result = encoder.flush(this.buffer);
+            drain(result);
+        } while (result.isOverflow());
+    }
+
+    private void drain(CoderResult result) {
+        if (result.isError()) {
+            try {
+                result.throwException();
+            } catch (CharacterCodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        if (this.buffer.position() > 0) {
+            this.sink.update(this.bytes, 0, this.buffer.position());
+            ((Buffer) this.buffer).clear();
+        }
+    }
+
+    private CharsetEncoder encoder() {
+        if (Objects.isNull(this.encoder)) {
+            this.encoder = this.charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        return this.encoder;
+    }
+}
@@ -0,0 +1,353 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Content-defined chunking with FastCDC (Xia et al., USENIX ATC 2016) and a digest of every chunk, for block level
+ * deduplication: an insertion only moves the boundaries around it, so the other chunks keep their digests.
+ *
+ * The input is read into a ring of large windows. The calling thread finds the boundaries of a window with the Gear
+ * rolling hash and hands the whole window to a worker that digests its chunks, then moves on to the next window; the
+ * bytes of an unfinished chunk are carried over. Boundaries and digests go to preallocated arrays of the window, so
+ * nothing is allocated per chunk. Boundaries depend on the sizes and the Gear table only, never on the windows.
+ */
+
+public final class ContentChunker {
+
+    public static final int DEFAULT_MIN_SIZE = 2 * 1024;
+    public static final int DEFAULT_AVERAGE_SIZE = 8 * 1024;
+    public static final int DEFAULT_MAX_SIZE = 64 * 1024;
+
+    private static final int MIN_WINDOW_SIZE = 4 * 1024 * 1024;
+    private static final long[] GEAR = new long[256];
+
+    static {
+        // The table is part of the chunk format, changing the seed moves every boundary
+        long seed = 0x4745415243444300L;
+        for (int i = 0; i < GEAR.length; i++) {
+            long z = (seed += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            GEAR[i] = z ^ (z >>> 31);
+        }
+    }
+
+    private final HashAlgorithm algorithm;
+    private final int minSize;
+    private final int averageSize;
+    private final int maxSize;
+    private final long smallMask;
+    private final long largeMask;
+    private final ForkJoinPool pool;
+    private final int digestLength;
+    private final int windowCount;
+    private final ArenaPool<Window> windows;
+
+    public ContentChunker(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        this(algorithm, DEFAULT_MIN_SIZE, DEFAULT_AVERAGE_SIZE, DEFAULT_MAX_SIZE);
+    }
+
+    public ContentChunker(
+            HashAlgorithm algorithm, int minSize, int averageSize, int maxSize
+    ) throws NoSuchAlgorithmException {
+        this(algorithm, minSize, averageSize, maxSize, ForkJoinPool.commonPool());
+    }
+
+    public ContentChunker(
+            HashAlgorithm algorithm, int minSize, int averageSize, int maxSize, ForkJoinPool pool
+    ) throws NoSuchAlgorithmException {
+        if (Objects.isNull(algorithm)) {
+            throw new IllegalArgumentException("Algorithm must not be null");
+        }
+
+        if (Integer.bitCount(averageSize) != 1 || averageSize < 64) {
+            throw new IllegalArgumentException("Average size must be a power of two of at least 64");
+        }
+
+        if (minSize <= 0 || minSize >= averageSize || maxSize <= averageSize || maxSize > (1 << 30)) {
+            throw new IllegalArgumentException("Sizes must satisfy 0 < min < average < max <= 1 GiB");
+        }
+
+        if (Objects.isNull(pool)) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+
+        this.algorithm = algorithm;
+        this.minSize = minSize;
+        this.averageSize = averageSize;
+        this.maxSize = maxSize;
+
+        // Normalized chunking: harder to cut before the average size, easier after it
+        int bits = Integer.numberOfTrailingZeros(averageSize);
+        this.smallMask = -1L << (64 - Math.min(bits + 2, 63));
+        this.largeMask = -1L << (64 - Math.max(bits - 2, 1));
+
+        this.pool = pool;
+        this.windowCount = Math.max(2, pool.getParallelism() + 1);
+
+        int windowSize = Math.max(MIN_WINDOW_SIZE, maxSize * 2);
+        Window window = new Window(new ByteHash(algorithm).digest, windowSize, windowSize / minSize + 1);
+        this.digestLength = window.digest.getDigestLength();
+        this.windows = new ArenaPool<>(() -> new Window(window.newDigest(), windowSize, window.ends.length), this.windowCount * 2);
+        this.windows.release(window);
+    }
+
+    public HashAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getAverageSize() {
+        return averageSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getDigestLength() {
+        return digestLength;
+    }
+
+    public List<Chunk> chunk(File input) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        chunk(input, (offset, length, digest, digestOffset) -> chunks.add(
+                new Chunk(offset, length, Arrays.copyOfRange(digest, digestOffset, digestOffset + this.digestLength))
+        ));
+        return chunks;
+    }
+
+    public List<Chunk> chunk(InputStream input) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        chunk(input, (offset, length, digest, digestOffset) -> chunks.add(
+                new Chunk(offset, length, Arrays.copyOfRange(digest, digestOffset, digestOffset + this.digestLength))
+        ));
+        return chunks;
+    }
+
+    public void chunk(File input, Sink sink) throws IOException {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        chunk(Files.newInputStream(input.toPath()), sink);
+    }
+
+    /**
+     * Passes every chunk to the sink in input order on the calling thread, and closes the stream.
+     */
+    public void chunk(InputStream input, Sink sink) throws IOException {
+        if (Objects.isNull(input) || Objects.isNull(sink)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        Window[] ring = new Window[this.windowCount];
+        try (InputStream inputStream = input) {
+            int slot = 0;
+            long offset = 0;
+            int carry = 0;
+            Window previous = null;
+
+            boolean end;
+            do {
+                Window window = ring[slot];
+                if (Objects.isNull(window)) {
+                    window = ring[slot] = this.windows.acquire();
+                } else {
+                    window.emit(sink);
+                }
+
+                if (carry > 0) {
+                    System.arraycopy(previous.data, previous.limit - carry, window.data, 0, carry);
+                }
+
+                int limit = carry;
+                int read = 0;
+                while (limit < window.data.length && (read = inputStream.read(window.data, limit, window.data.length - limit)) > -1) {
+                    limit += read;
+                }
+
+                end = read < 0;
+                window.offset = offset;
+                window.limit = limit;
+                window.count = 0;
+
+                int position = 0;
+                while (position < limit && (end || limit - position >= this.maxSize)) {
+                    position += cut(window.data, position, limit - position);
+                    window.ends[window.count++] = position;
+                }
+
+                if (window.count > 0) {
+                    window.task = this.pool.submit(window);
+                }
+
+                carry = limit - position;
+                offset += position;
+                previous = window;
+                slot = (slot + 1) % ring.length;
+            } while (!end);
+
+            for (int i = 0; i < ring.length; i++, slot = (slot + 1) % ring.length) {
+                if (Objects.nonNull(ring[slot])) {
+                    ring[slot].emit(sink);
+                }
+            }
+        } finally {
+            for (Window window : ring) {
+                if (Objects.nonNull(window)) {
+                    window.quietlyJoin();
+                    this.windows.release(window);
+                }
+            }
+        }
+    }
+
+    int cut(byte[] input, int offset, int length) {
+        if (length <= this.minSize) {
+            return length;
+        }
+
+        int end = Math.min(length, this.maxSize);
+        int normal = Math.min(this.averageSize, end);
+
+        long hash = 0;
+        int i = this.minSize;
+        for (; i < normal; i++) {
+            hash = (hash << 1) + GEAR[input[offset + i] & 0xFF];
+            if ((hash & this.smallMask) == 0) {
+                return i + 1;
+            }
+        }
+
+        for (; i < end; i++) {
+            hash = (hash << 1) + GEAR[input[offset + i] & 0xFF];
+            if ((hash & this.largeMask) == 0) {
+                return i + 1;
+            }
+        }
+
+        return end;
+    }
+
+    /**
+     * Receives the chunks in input order. The digest array is reused: only the {@link #getDigestLength()} bytes from
+     * {@code digestOffset} belong to this chunk, and only until the call returns.
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        void accept(long offset, int length, byte[] digest, int digestOffset);
+    }
+
+    public static final class Chunk {
+
+        private final long offset;
+        private final int length;
+        private final byte[] digest;
+
+        private Chunk(long offset, int length, byte[] digest) {
+            this.offset = offset;
+            this.length = length;
+            this.digest = digest;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public byte[] getDigest() {
+            return digest.clone();
+        }
+    }
+
+    private static final class Window implements Runnable {
+
+        private final MessageDigest digest;
+        private final byte[] data;
+        private final int[] ends;
+        private final byte[] digests;
+        private long offset;
+        private int limit;
+        private int count;
+        private ForkJoinTask<?> task;
+
+        private Window(MessageDigest digest, int size, int chunks) {
+            this.digest = digest;
+            this.data = new byte[size];
+            this.ends = new int[chunks];
+            this.digests = new byte[chunks * digest.getDigestLength()];
+        }
+
+        @Override
+        public void run() {
+            int length = this.digest.getDigestLength();
+            int start = 0;
+            try {
+                for (int i = 0; i < this.count; i++) {
+                    this.digest.update(this.data, start, this.ends[i] - start);
+                    this.digest.digest(this.digests, i * length, length);
+                    start = this.ends[i];
+                }
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void emit(Sink sink) {
+            if (Objects.isNull(this.task)) {
+                return;
+            }
+
+            this.task.join();
+            this.task = null;
+
+            int length = this.digest.getDigestLength();
+            int start = 0;
+            for (int i = 0; i < this.count; i++) {
+                sink.accept(this.offset + start, this.ends[i] - start, this.digests, i * length);
+                start = this.ends[i];
+            }
+        }
+
+        private void quietlyJoin() {
+            if (Objects.nonNull(this.task)) {
+                this.task.quietlyJoin();
+                this.task = null;
+            }
+        }
+
+        private MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance(this.digest.getAlgorithm(), this.digest.getProvider());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
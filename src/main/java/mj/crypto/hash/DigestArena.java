@@ -0,0 +1,63 @@
+package mj.crypto.hash;
+
+import java.util.Arrays;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+final class DigestArena {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] bytes = new byte[0];
+    private int length;
+    private int size;
+
+    void add(byte[] hash) {
+        if (this.size == 0) {
+            this.length = hash.length;
+        } else if (hash.length != this.length) {
+            throw new IllegalArgumentException("All hashes must have the same length");
+        }
+
+        int end = (this.size + 1) * this.length;
+        if (end > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(end, Math.max(INITIAL_CAPACITY * this.length, this.bytes.length * 2)));
+        }
+
+        System.arraycopy(hash, 0, this.bytes, this.size++ * this.length, this.length);
+    }
+
+    byte[] get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(String.format("Index %d, size %d", index, this.size));
+        }
+
+        return Arrays.copyOfRange(this.bytes, index * this.length, (index + 1) * this.length);
+    }
+
+    void forEach(StreamReader.Chunk sink) {
+        for (int index = 0; index < this.size; index++) {
+            sink.update(this.bytes, index * this.length, this.length);
+        }
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    void clear() {
+        if (this.bytes.length > INITIAL_CAPACITY * this.length) {
+            this.bytes = new byte[INITIAL_CAPACITY * this.length];
+        }
+
+        this.size = 0;
+    }
+
+    int capacity() {
+        return this.bytes.length;
+    }
+}
@@ -1,14 +1,27 @@
 package mj.crypto.hash;
 
 import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.ReadMode;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.security.DigestInputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,8 +33,33 @@ import java.util.logging.Logger;
 
 public final class FileHash extends AbstractStreamHash<File> {
 
+    private final ChannelReader reader;
+
     public FileHash(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        this(algorithm, ReadMode.HEAP, BufferPool.DEFAULT_BUFFER_SIZE);
+    }
+
+    public FileHash(HashAlgorithm algorithm, ReadMode mode) throws NoSuchAlgorithmException {
+        this(algorithm, mode, BufferPool.DEFAULT_BUFFER_SIZE);
+    }
+
+    public FileHash(HashAlgorithm algorithm, ReadMode mode, int bufferSize) throws NoSuchAlgorithmException {
+        this(algorithm, mode, bufferSize, ChannelReader.DEFAULT_MAP_SIZE);
+    }
+
+    /**
+     * In {@link ReadMode#MAPPED} and {@link ReadMode#AUTO} mode files are mapped {@code mapSize} bytes at a time, and
+     * every window is unmapped before the next one is mapped.
+     */
+    public FileHash(
+            HashAlgorithm algorithm, ReadMode mode, int bufferSize, int mapSize
+    ) throws NoSuchAlgorithmException {
         super(algorithm);
+        this.reader = new ChannelReader(mode, bufferSize, ChannelReader.DEFAULT_RING_SIZE, mapSize);
+    }
+
+    public int getMapSize() {
+        return this.reader.getMapSize();
     }
 
     public static Optional<byte[]> hash(HashAlgorithm algorithm, File input) {
@@ -43,16 +81,103 @@ public final class FileHash extends AbstractStreamHash<File> {
         }
     }
 
+    public static CompletableFuture<byte[]> hashAsync(HashAlgorithm algorithm, File input, Executor executor) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return AsyncDigest.supply(executor, cancelled -> new FileHash(algorithm).digest(input.toPath(), cancelled));
+    }
+
+    public static Map<Path, byte[]> hashAll(HashAlgorithm algorithm, Collection<Path> inputs, int parallelism) {
+        try {
+            FileHash hash = new FileHash(algorithm);
+            List<Path> paths = new ArrayList<>(inputs);
+            List<byte[]> hashes = hash.digestAll(paths, parallelism);
+
+            Map<Path, byte[]> result = new LinkedHashMap<>();
+            for (int i = 0; i < paths.size(); i++) {
+                if (Objects.nonNull(hashes.get(i))) {
+                    result.put(paths.get(i), hashes.get(i));
+                }
+            }
+
+            return result;
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
     @Override
     public FileHash add(File input) {
-        try (InputStream inputStream = new DigestInputStream(new FileInputStream(input), this.digest)) {
-            while (inputStream.read() > -1) ;
+        byte[] hash = digest(this.digest, input.toPath());
+        if (Objects.nonNull(hash)) {
+            offer(hash);
+        }
 
-            this.hashes.offer(this.digest.digest());
+        return this;
+    }
+
+    public FileHash addAll(Collection<Path> inputs, int parallelism) {
+        for (byte[] hash : digestAll(new ArrayList<>(inputs), parallelism)) {
+            if (Objects.nonNull(hash)) {
+                offer(hash);
+            }
+        }
+
+        return this;
+    }
+
+    private List<byte[]> digestAll(List<Path> inputs, int parallelism) {
+        ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(this::newDigest);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(
+                    () -> inputs.parallelStream()
+                            .map(input -> digest(digests.get(), input))
+                            .collect(Collectors.toList())
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private byte[] digest(MessageDigest digest, Path input) {
+        try {
+            this.reader.read(input, digest::update);
+            return digest.digest();
         } catch (IOException e) {
+            digest.reset();
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return null;
         }
+    }
 
-        return this;
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(this.digest.getAlgorithm(), this.digest.getProvider());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] digest(Path input, BooleanSupplier cancelled) throws IOException {
+        this.reader.read(input, buffer -> {
+            AsyncDigest.check(cancelled);
+            this.digest.update(buffer);
+        });
+
+        return this.digest.digest();
     }
 }
@@ -0,0 +1,542 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+
+import javax.crypto.SecretKey;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Digests and MACs of files kept in a memory-mapped index, so files that did not change since they were hashed are not
+ * read again. An entry is found by the path, the file key (device and inode where the platform has one), the algorithm
+ * and, for MACs, a fingerprint of the key; it is only used while the size and the modification time still match.
+ *
+ * The index is an open-addressing table of fixed-size slots that several JVMs can share. Lookups read a slot without
+ * locking and check its checksum, writers hold an exclusive {@link FileLock}. When the probed slots are full, the least
+ * recently used one is replaced. Files modified less than two seconds before they were hashed are not cached, since a
+ * later change within the same timestamp granularity would go unnoticed.
+ */
+
+public final class FileHashCache implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final int MAGIC = 0x46484331;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 128;
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE;
+    private static final int MAX_PROBES = 16;
+    private static final int MAX_DIGEST_LENGTH = 64;
+    private static final long RACY_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private static final int KEY = 0;
+    private static final int SIZE = 16;
+    private static final int MODIFIED = 24;
+    private static final int ACCESSED = 32;
+    private static final int META = 40;
+    private static final int DIGEST = 48;
+    private static final int CHECKSUM = 120;
+
+    private static final int CLOSED = Integer.MIN_VALUE;
+    static final Map<Path, SharedLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer index;
+    private final int capacity;
+    private final long maxIdleMillis;
+    private final double sampleRate;
+    private final Path path;
+    private final SharedLock lock;
+    private final AtomicInteger readers = new AtomicInteger();
+    private final Stats stats = new Stats();
+    private boolean closed;
+
+    public FileHashCache(Path index) throws IOException {
+        this(index, DEFAULT_CAPACITY, Duration.ZERO, 0);
+    }
+
+    /**
+     * @param capacity   number of slots when the index is created, an existing index keeps its own
+     * @param maxIdle    entries not used for longer are ignored and removed by {@link #evictIdle()}, zero keeps them
+     * @param sampleRate fraction of hits that are hashed again and compared with the cached value
+     */
+    public FileHashCache(Path index, int capacity, Duration maxIdle, double sampleRate) throws IOException {
+        if (Objects.isNull(index) || Objects.isNull(maxIdle)) {
+            throw new IllegalArgumentException("Index must not be null");
+        }
+
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Capacity must be between 1 and %d", MAX_CAPACITY));
+        }
+
+        if (maxIdle.isNegative() || sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Max idle must not be negative and sample rate must be between 0 and 1");
+        }
+
+        this.maxIdleMillis = maxIdle.toMillis();
+        this.sampleRate = sampleRate;
+        this.path = index.toAbsolutePath().normalize();
+        this.lock = LOCKS.compute(this.path, (path, lock) -> (Objects.isNull(lock) ? new SharedLock() : lock).retain());
+
+        try {
+            this.channel = FileChannel.open(index, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException | RuntimeException e) {
+            release(this.path);
+            throw e;
+        }
+
+        try {
+            synchronized (this.lock) {
+                FileLock fileLock = this.channel.lock();
+                MappedByteBuffer header = null;
+                try {
+                    header = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+                    if (header.getInt(0) == 0 && header.getInt(4) == 0) {
+                        header.putInt(8, capacity);
+                        header.putInt(12, SLOT_SIZE);
+                        header.putInt(4, VERSION);
+                        header.putInt(0, MAGIC);
+                        header.force();
+                    } else if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(12) != SLOT_SIZE) {
+                        throw new IOException(String.format("%s is not a file hash cache index", index));
+                    }
+
+                    this.capacity = header.getInt(8);
+                    if (this.capacity <= 0 || this.capacity > MAX_CAPACITY) {
+                        throw new IOException(String.format("%s is corrupt", index));
+                    }
+
+                    this.index = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) this.capacity * SLOT_SIZE);
+                } finally {
+                    if (Objects.nonNull(header)) {
+                        Unmapper.unmap(header);
+                    }
+
+                    fileLock.release();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            release(this.path);
+            throw e;
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Stats getStats() {
+        return stats;
+    }
+
+    public Optional<byte[]> hash(HashAlgorithm algorithm, File input) {
+        if (Objects.isNull(algorithm) || Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return lookup(input, 'H', algorithm.name(), new byte[0], () -> FileHash.hash(algorithm, input));
+    }
+
+    /**
+     * Keys without an encoded form, such as keys held in a hardware module, are never cached.
+     */
+    public Optional<byte[]> mac(MacAlgorithm algorithm, SecretKey key, File input) {
+        if (Objects.isNull(algorithm) || Objects.isNull(key) || Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        byte[] encoded = key.getEncoded();
+        if (Objects.isNull(encoded)) {
+            return FileMac.mac(algorithm, key, input);
+        }
+
+        byte[] fingerprint = ByteHash.hash(HashAlgorithm.SHA_256, encoded).orElseThrow(IllegalStateException::new);
+        Arrays.fill(encoded, (byte) 0);
+        return lookup(input, 'M', algorithm.name(), fingerprint, () -> FileMac.mac(algorithm, key, input));
+    }
+
+    /**
+     * Removes the entries that were not used for longer than the max idle time and returns how many there were.
+     */
+    public int evictIdle() throws IOException {
+        if (this.maxIdleMillis == 0) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        synchronized (this.lock) {
+            ensureOpen();
+            FileLock fileLock = this.channel.lock();
+            try {
+                for (int slot = 0; slot < this.capacity; slot++) {
+                    int base = base(slot);
+                    if (this.index.getLong(base + META) != 0 && now - this.index.getLong(base + ACCESSED) > this.maxIdleMillis) {
+                        erase(base);
+                        evicted++;
+                    }
+                }
+            } finally {
+                fileLock.release();
+            }
+        }
+
+        this.stats.evictions.add(evicted);
+        return evicted;
+    }
+
+    public void clear() throws IOException {
+        synchronized (this.lock) {
+            ensureOpen();
+            FileLock fileLock = this.channel.lock();
+            try {
+                for (int slot = 0; slot < this.capacity; slot++) {
+                    erase(base(slot));
+                }
+            } finally {
+                fileLock.release();
+            }
+        }
+    }
+
+    /**
+     * Waits for lookups in progress, then unmaps the index and closes it. Closing again does nothing, other calls throw
+     * {@link IllegalStateException} once the cache is closed.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this.lock) {
+            if (this.closed) {
+                return;
+            }
+
+            this.closed = true;
+            this.readers.getAndAdd(CLOSED);
+            while (this.readers.get() != CLOSED) {
+                Thread.yield();
+            }
+
+            try {
+                this.index.force();
+                this.channel.close();
+            } finally {
+                Unmapper.unmap(this.index);
+                release(this.path);
+            }
+        }
+    }
+
+    private Optional<byte[]> lookup(File input, char kind, String algorithm, byte[] fingerprint, Supplier<Optional<byte[]>> compute) {
+        Path path = input.toPath();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+
+        long[] key = key(path, attributes, kind, algorithm, fingerprint);
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+
+        byte[] cached = find(key, size, modified);
+        if (Objects.nonNull(cached)) {
+            this.stats.hits.increment();
+            if (this.sampleRate == 0 || ThreadLocalRandom.current().nextDouble() >= this.sampleRate) {
+                return Optional.of(cached);
+            }
+
+            this.stats.sampled.increment();
+        } else {
+            this.stats.misses.increment();
+        }
+
+        long started = System.currentTimeMillis();
+        Optional<byte[]> digest = compute.get();
+        if (!digest.isPresent()) {
+            return digest;
+        }
+
+        if (Objects.nonNull(cached) && !Arrays.equals(cached, digest.get())) {
+            this.stats.mismatches.increment();
+            Logger.getGlobal().log(Level.WARNING, String.format("Cached digest of %s does not match its content", path));
+        }
+
+        try {
+            BasicFileAttributes after = Files.readAttributes(path, BasicFileAttributes.class);
+            boolean unchanged = after.size() == size
+                    && after.lastModifiedTime().to(TimeUnit.NANOSECONDS) == modified
+                    && Objects.equals(after.fileKey(), attributes.fileKey());
+
+            if (unchanged && TimeUnit.MILLISECONDS.toNanos(started) - modified > RACY_NANOS && digest.get().length <= MAX_DIGEST_LENGTH) {
+                store(key, size, modified, digest.get());
+            }
+        } catch (IOException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        }
+
+        return digest;
+    }
+
+    private byte[] find(long[] key, long size, long modified) {
+        int readers;
+        do {
+            readers = this.readers.get();
+            if (readers < 0) {
+                throw new IllegalStateException("Cache is closed");
+            }
+        } while (!this.readers.compareAndSet(readers, readers + 1));
+
+        try {
+            return read(key, size, modified);
+        } finally {
+            this.readers.decrementAndGet();
+        }
+    }
+
+    private byte[] read(long[] key, long size, long modified) {
+        long[] slot = new long[SLOT_SIZE / 8];
+        long now = System.currentTimeMillis();
+
+        int start = start(key);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int base = base((start + probe) % this.capacity);
+            if (this.index.getLong(base + KEY) != key[0] || this.index.getLong(base + KEY + 8) != key[1]) {
+                continue;
+            }
+
+            for (int i = 0; i < slot.length; i++) {
+                slot[i] = this.index.getLong(base + i * 8);
+            }
+
+            long meta = slot[META / 8];
+            if (meta == 0 || slot[CHECKSUM / 8] != checksum(slot) || slot[KEY / 8] != key[0] || slot[KEY / 8 + 1] != key[1]) {
+                return null;
+            }
+
+            if (slot[SIZE / 8] != size || slot[MODIFIED / 8] != modified) {
+                return null;
+            }
+
+            if (this.maxIdleMillis > 0 && now - slot[ACCESSED / 8] > this.maxIdleMillis) {
+                return null;
+            }
+
+            this.index.putLong(base + ACCESSED, now);
+
+            byte[] digest = new byte[(int) (meta >>> 8)];
+            for (int i = 0; i < digest.length; i++) {
+                digest[i] = (byte) (slot[DIGEST / 8 + i / 8] >>> (56 - (i % 8) * 8));
+            }
+
+            return digest;
+        }
+
+        return null;
+    }
+
+    private void store(long[] key, long size, long modified, byte[] digest) throws IOException {
+        long[] slot = new long[SLOT_SIZE / 8];
+        slot[KEY / 8] = key[0];
+        slot[KEY / 8 + 1] = key[1];
+        slot[SIZE / 8] = size;
+        slot[MODIFIED / 8] = modified;
+        slot[ACCESSED / 8] = System.currentTimeMillis();
+        slot[META / 8] = 1 | ((long) digest.length << 8);
+        for (int i = 0; i < digest.length; i++) {
+            slot[DIGEST / 8 + i / 8] |= (digest[i] & 0xFFL) << (56 - (i % 8) * 8);
+        }
+
+        slot[CHECKSUM / 8] = checksum(slot);
+
+        synchronized (this.lock) {
+            if (this.closed) {
+                return;
+            }
+
+            FileLock fileLock = this.channel.lock();
+            try {
+                int start = start(key);
+                int target = -1;
+                int oldest = -1;
+                long oldestAccess = Long.MAX_VALUE;
+
+                for (int probe = 0; probe < MAX_PROBES; probe++) {
+                    int base = base((start + probe) % this.capacity);
+                    if (this.index.getLong(base + KEY) == key[0] && this.index.getLong(base + KEY + 8) == key[1]) {
+                        target = base;
+                        break;
+                    }
+
+                    if (this.index.getLong(base + META) == 0) {
+                        if (target < 0) {
+                            target = base;
+                        }
+                    } else if (this.index.getLong(base + ACCESSED) < oldestAccess) {
+                        oldestAccess = this.index.getLong(base + ACCESSED);
+                        oldest = base;
+                    }
+                }
+
+                if (target < 0) {
+                    target = oldest;
+                    this.stats.evictions.increment();
+                }
+
+                this.index.putLong(target + META, 0);
+                for (int i = 0; i < slot.length; i++) {
+                    if (i != META / 8) {
+                        this.index.putLong(target + i * 8, slot[i]);
+                    }
+                }
+
+                this.index.putLong(target + META, slot[META / 8]);
+                this.stats.stores.increment();
+            } finally {
+                fileLock.release();
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("Cache is closed");
+        }
+    }
+
+    private void erase(int base) {
+        for (int i = 0; i < SLOT_SIZE; i += 8) {
+            this.index.putLong(base + i, 0);
+        }
+    }
+
+    private int base(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private int start(long[] key) {
+        return (int) Long.remainderUnsigned(key[0], this.capacity);
+    }
+
+    private static void release(Path path) {
+        LOCKS.computeIfPresent(path, (key, lock) -> --lock.users == 0 ? null : lock);
+    }
+
+    private static long checksum(long[] slot) {
+        long hash = 0x6A09E667F3BCC908L;
+        for (int i = 0; i < CHECKSUM / 8; i++) {
+            if (i != ACCESSED / 8) {
+                hash = (hash ^ slot[i]) * 0x9E3779B97F4A7C15L;
+                hash ^= hash >>> 32;
+            }
+        }
+
+        return hash;
+    }
+
+    private static long[] key(Path path, BasicFileAttributes attributes, char kind, String algorithm, byte[] fingerprint) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(kind);
+        write(output, algorithm);
+        write(output, path.toAbsolutePath().normalize().toString());
+        write(output, String.valueOf(attributes.fileKey()));
+        output.write(fingerprint, 0, fingerprint.length);
+
+        byte[] hash = ByteHash.hash(HashAlgorithm.SHA_256, output.toByteArray()).orElseThrow(IllegalStateException::new);
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        return new long[]{buffer.getLong(0), buffer.getLong(8)};
+    }
+
+    private static void write(ByteArrayOutputStream output, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.write(bytes.length >>> 24);
+        output.write(bytes.length >>> 16);
+        output.write(bytes.length >>> 8);
+        output.write(bytes.length);
+        output.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Monitor of the instances of this JVM that share an index, counted so that it is dropped with the last one.
+     */
+    private static final class SharedLock {
+
+        private int users;
+
+        private SharedLock retain() {
+            this.users++;
+            return this;
+        }
+    }
+
+    /**
+     * Counters of this instance only, other instances and JVMs sharing the index keep their own.
+     */
+    public static final class Stats {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder stores = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder sampled = new LongAdder();
+        private final LongAdder mismatches = new LongAdder();
+
+        private Stats() {
+        }
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        public long getStores() {
+            return stores.sum();
+        }
+
+        public long getEvictions() {
+            return evictions.sum();
+        }
+
+        public long getSampled() {
+            return sampled.sum();
+        }
+
+        public long getMismatches() {
+            return mismatches.sum();
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package mj.crypto.hash;
 
 import mj.crypto.enums.MacAlgorithm;
+import mj.crypto.enums.ReadMode;
 
 import javax.crypto.SecretKey;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,8 +24,37 @@ import java.util.logging.Logger;
 
 public final class FileMac extends AbstractStreamMac<File> {
 
+    private final ChannelReader reader;
+
     public FileMac(MacAlgorithm algorithm, SecretKey key) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(algorithm, key, ReadMode.HEAP, BufferPool.DEFAULT_BUFFER_SIZE);
+    }
+
+    public FileMac(
+            MacAlgorithm algorithm, SecretKey key, ReadMode mode
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(algorithm, key, mode, BufferPool.DEFAULT_BUFFER_SIZE);
+    }
+
+    public FileMac(
+            MacAlgorithm algorithm, SecretKey key, ReadMode mode, int bufferSize
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(algorithm, key, mode, bufferSize, ChannelReader.DEFAULT_MAP_SIZE);
+    }
+
+    /**
+     * In {@link ReadMode#MAPPED} and {@link ReadMode#AUTO} mode files are mapped {@code mapSize} bytes at a time, and
+     * every window is unmapped before the next one is mapped.
+     */
+    public FileMac(
+            MacAlgorithm algorithm, SecretKey key, ReadMode mode, int bufferSize, int mapSize
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
         super(algorithm, key);
+        this.reader = new ChannelReader(mode, bufferSize, ChannelReader.DEFAULT_RING_SIZE, mapSize);
+    }
+
+    public int getMapSize() {
+        return this.reader.getMapSize();
     }
 
     public static Optional<byte[]> mac(MacAlgorithm algorithm, SecretKey key, File input) {
@@ -45,23 +76,37 @@ public final class FileMac extends AbstractStreamMac<File> {
         }
     }
 
+    public static CompletableFuture<byte[]> macAsync(MacAlgorithm algorithm, SecretKey key, File input, Executor executor) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return AsyncDigest.supply(executor, cancelled -> new FileMac(algorithm, key).mac(input, cancelled));
+    }
+
     @Override
     public FileMac add(File input) {
         if (Objects.isNull(input)) {
             throw new IllegalArgumentException("Input must not be null");
         }
 
-        try (InputStream inputStream = new FileInputStream(input)) {
-            byte $byte;
-            while (($byte = (byte) inputStream.read()) > -1) {
-                this.mac.update($byte);
-            }
-
-            this.macs.offer(this.mac.doFinal());
+        try {
+            this.reader.read(input.toPath(), this.mac::update);
+            offer(this.mac.doFinal());
         } catch (IOException e) {
+            this.mac.reset();
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
         }
 
         return this;
     }
+
+    private byte[] mac(File input, BooleanSupplier cancelled) throws IOException {
+        this.reader.read(input.toPath(), buffer -> {
+            AsyncDigest.check(cancelled);
+            this.mac.update(buffer);
+        });
+
+        return this.mac.doFinal();
+    }
 }
@@ -0,0 +1,41 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+final class HashPool<H extends AbstractHash<?>> {
+
+    private final Factory<H> factory;
+    private final ThreadLocal<Map<HashAlgorithm, H>> hashes =
+            ThreadLocal.withInitial(() -> new EnumMap<>(HashAlgorithm.class));
+
+    HashPool(Factory<H> factory) {
+        this.factory = factory;
+    }
+
+    H acquire(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        H hash = this.hashes.get().remove(algorithm);
+        return Objects.nonNull(hash) ? hash : this.factory.create(algorithm);
+    }
+
+    void release(HashAlgorithm algorithm, H hash) {
+        hash.clear();
+        this.hashes.get().put(algorithm, hash);
+    }
+
+    @FunctionalInterface
+    interface Factory<H> {
+
+        H create(HashAlgorithm algorithm) throws NoSuchAlgorithmException;
+    }
+}
@@ -0,0 +1,58 @@
+package mj.crypto.hash;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Writes to another stream and adds every written chunk to a {@link ByteHash}, so the digest of the output is ready
+ * when the writing is done without reading the data back. A chunk is added once the delegate accepted it; closing the
+ * stream does not finalize the hash.
+ */
+
+public final class HashingOutputStream extends FilterOutputStream {
+
+    private final ByteHash hash;
+    private long count;
+
+    public HashingOutputStream(OutputStream out, ByteHash hash) {
+        super(out);
+
+        if (Objects.isNull(out) || Objects.isNull(hash)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        this.hash = hash;
+    }
+
+    public ByteHash getHash() {
+        return hash;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.out.write(b);
+        this.hash.digest.update((byte) b);
+        this.hash.empty = false;
+        this.count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        this.out.write(b, off, len);
+        if (len > 0) {
+            this.hash.digest.update(b, off, len);
+            this.hash.empty = false;
+            this.count += len;
+        }
+    }
+}
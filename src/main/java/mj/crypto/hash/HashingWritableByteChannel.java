@@ -0,0 +1,73 @@
+package mj.crypto.hash;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Writes to another channel and adds the bytes it accepted to a {@link ByteHash}. The written range of the source
+ * buffer is handed to the digest as a buffer, so a direct buffer is not copied to a heap array when the provider reads
+ * direct buffers; the position and limit of the source end up where the delegate left them.
+ */
+
+public final class HashingWritableByteChannel implements WritableByteChannel {
+
+    private final WritableByteChannel channel;
+    private final ByteHash hash;
+    private long count;
+
+    public HashingWritableByteChannel(WritableByteChannel channel, ByteHash hash) {
+        if (Objects.isNull(channel) || Objects.isNull(hash)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        this.channel = channel;
+        this.hash = hash;
+    }
+
+    public ByteHash getHash() {
+        return hash;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        int start = src.position();
+        int written = this.channel.write(src);
+        if (written <= 0) {
+            return written;
+        }
+
+        int end = src.position();
+        int limit = src.limit();
+        try {
+            ((Buffer) src).limit(end).position(start);
+            this.hash.digest.update(src);
+        } finally {
+            ((Buffer) src).limit(limit).position(end);
+        }
+
+        this.hash.empty = false;
+        this.count += written;
+        return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -4,9 +4,12 @@ import mj.crypto.enums.HashAlgorithm;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.security.DigestInputStream;
 import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -18,8 +21,23 @@ import java.util.logging.Logger;
 
 public final class InputStreamHash extends AbstractStreamHash<InputStream> {
 
+    private final StreamReader reader;
+
     public InputStreamHash(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        this(algorithm, BufferPool.DEFAULT_BUFFER_SIZE);
+    }
+
+    public InputStreamHash(HashAlgorithm algorithm, int bufferSize) throws NoSuchAlgorithmException {
+        this(algorithm, bufferSize, 0);
+    }
+
+    /**
+     * With {@code readAhead} buffers of at least two, a reader thread fills the buffers while this thread hashes them;
+     * zero reads and hashes on the calling thread. Each buffer holds {@code bufferSize} bytes.
+     */
+    public InputStreamHash(HashAlgorithm algorithm, int bufferSize, int readAhead) throws NoSuchAlgorithmException {
         super(algorithm);
+        this.reader = new StreamReader(bufferSize, readAhead);
     }
 
     public static Optional<byte[]> hash(HashAlgorithm algorithm, InputStream input) {
@@ -41,16 +59,43 @@ public final class InputStreamHash extends AbstractStreamHash<InputStream> {
         }
     }
 
+    public static CompletableFuture<byte[]> hashAsync(HashAlgorithm algorithm, InputStream input, Executor executor) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return AsyncDigest.supply(executor, input, cancelled -> new InputStreamHash(algorithm).digest(input, cancelled));
+    }
+
+    public int getBufferSize() {
+        return this.reader.getBufferSize();
+    }
+
+    public int getReadAhead() {
+        return this.reader.getReadAhead();
+    }
+
     @Override
     public InputStreamHash add(InputStream input) {
-        try (InputStream inputStream = new DigestInputStream(input, this.digest)) {
-            while (inputStream.read() > -1) ;
-
-            this.hashes.offer(this.digest.digest());
+        try (InputStream inputStream = input) {
+            this.reader.read(inputStream, this.digest::update);
+            offer(this.digest.digest());
         } catch (IOException e) {
+            this.digest.reset();
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
         }
 
         return this;
     }
+
+    private byte[] digest(InputStream input, BooleanSupplier cancelled) throws IOException {
+        try (InputStream inputStream = input) {
+            this.reader.read(inputStream, (bytes, offset, length) -> {
+                AsyncDigest.check(cancelled);
+                this.digest.update(bytes, offset, length);
+            });
+        }
+
+        return this.digest.digest();
+    }
 }
@@ -9,6 +9,9 @@ import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,8 +23,27 @@ import java.util.logging.Logger;
 
 public final class InputStreamMac extends AbstractStreamMac<InputStream> {
 
+    private final StreamReader reader;
+
     public InputStreamMac(MacAlgorithm algorithm, SecretKey key) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(algorithm, key, BufferPool.DEFAULT_BUFFER_SIZE);
+    }
+
+    public InputStreamMac(
+            MacAlgorithm algorithm, SecretKey key, int bufferSize
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(algorithm, key, bufferSize, 0);
+    }
+
+    /**
+     * With {@code readAhead} buffers of at least two, a reader thread fills the buffers while this thread feeds them to
+     * the MAC; zero reads and computes on the calling thread. Each buffer holds {@code bufferSize} bytes.
+     */
+    public InputStreamMac(
+            MacAlgorithm algorithm, SecretKey key, int bufferSize, int readAhead
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
         super(algorithm, key);
+        this.reader = new StreamReader(bufferSize, readAhead);
     }
 
     public static Optional<byte[]> mac(MacAlgorithm algorithm, SecretKey key, InputStream input) {
@@ -43,6 +65,24 @@ public final class InputStreamMac extends AbstractStreamMac<InputStream> {
         }
     }
 
+    public static CompletableFuture<byte[]> macAsync(
+            MacAlgorithm algorithm, SecretKey key, InputStream input, Executor executor
+    ) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return AsyncDigest.supply(executor, input, cancelled -> new InputStreamMac(algorithm, key).mac(input, cancelled));
+    }
+
+    public int getBufferSize() {
+        return this.reader.getBufferSize();
+    }
+
+    public int getReadAhead() {
+        return this.reader.getReadAhead();
+    }
+
     @Override
     public InputStreamMac add(InputStream input) {
         if (Objects.isNull(input)) {
@@ -50,16 +90,24 @@ public final class InputStreamMac extends AbstractStreamMac<InputStream> {
         }
 
         try (InputStream inputStream = input) {
-            byte $byte;
-            while (($byte = (byte) inputStream.read()) > -1) {
-                this.mac.update($byte);
-            }
-
-            this.macs.offer(this.mac.doFinal());
+            this.reader.read(inputStream, this.mac::update);
+            offer(this.mac.doFinal());
         } catch (IOException e) {
+            this.mac.reset();
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
         }
 
         return this;
     }
+
+    private byte[] mac(InputStream input, BooleanSupplier cancelled) throws IOException {
+        try (InputStream inputStream = input) {
+            this.reader.read(inputStream, (bytes, offset, length) -> {
+                AsyncDigest.check(cancelled);
+                this.mac.update(bytes, offset, length);
+            });
+        }
+
+        return this.mac.doFinal();
+    }
 }
@@ -0,0 +1,58 @@
+package mj.crypto.hash;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Writes to another stream and adds every written chunk to a {@link ByteMac}, so the MAC of the output is ready when
+ * the writing is done without reading the data back. A chunk is added once the delegate accepted it; closing the stream
+ * does not finalize the MAC.
+ */
+
+public final class MacOutputStream extends FilterOutputStream {
+
+    private final ByteMac mac;
+    private long count;
+
+    public MacOutputStream(OutputStream out, ByteMac mac) {
+        super(out);
+
+        if (Objects.isNull(out) || Objects.isNull(mac)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        this.mac = mac;
+    }
+
+    public ByteMac getMac() {
+        return mac;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.out.write(b);
+        this.mac.mac.update((byte) b);
+        this.mac.empty = false;
+        this.count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        this.out.write(b, off, len);
+        if (len > 0) {
+            this.mac.mac.update(b, off, len);
+            this.mac.empty = false;
+            this.count += len;
+        }
+    }
+}
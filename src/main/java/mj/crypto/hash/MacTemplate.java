@@ -0,0 +1,166 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.MacAlgorithm;
+
+import javax.crypto.SecretKey;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+public final class MacTemplate {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final Map<Template, MacTemplate> TEMPLATES = new LinkedHashMap<Template, MacTemplate>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Template, MacTemplate> eldest) {
+            return size() > DEFAULT_CAPACITY;
+        }
+    };
+
+    private final MacAlgorithm algorithm;
+    private final SecretKey key;
+    private final javax.crypto.Mac prototype;
+
+    public MacTemplate(MacAlgorithm algorithm, SecretKey key) throws NoSuchAlgorithmException, InvalidKeyException {
+        this.algorithm = algorithm;
+        this.key = key;
+        this.prototype = newMac(algorithm, key);
+    }
+
+    public static MacTemplate of(MacAlgorithm algorithm, SecretKey key) throws NoSuchAlgorithmException, InvalidKeyException {
+        Template template = new Template(algorithm, key);
+        synchronized (TEMPLATES) {
+            MacTemplate macTemplate = TEMPLATES.get(template);
+            if (Objects.isNull(macTemplate)) {
+                TEMPLATES.put(template, macTemplate = new MacTemplate(algorithm, key));
+            }
+
+            return macTemplate;
+        }
+    }
+
+    public static Optional<byte[]> mac(MacAlgorithm algorithm, SecretKey key, byte[] input) {
+        try {
+            return MacTemplate.of(algorithm, key).mac(input);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static void evict(SecretKey key) {
+        synchronized (TEMPLATES) {
+            Iterator<Template> iterator = TEMPLATES.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().key.equals(key)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public static void evict(MacAlgorithm algorithm, SecretKey key) {
+        synchronized (TEMPLATES) {
+            TEMPLATES.remove(new Template(algorithm, key));
+        }
+    }
+
+    public static void evictAll() {
+        synchronized (TEMPLATES) {
+            TEMPLATES.clear();
+        }
+    }
+
+    public MacAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public ByteMac newByteMac() {
+        return new ByteMac(newMac());
+    }
+
+    public StringMac newStringMac() {
+        return new StringMac(newMac());
+    }
+
+    public Optional<byte[]> mac(byte[] input) {
+        return newByteMac().add(input).finalizeMac().getResult();
+    }
+
+    public Optional<byte[]> mac(byte[] input, int offset, int limit) {
+        return newByteMac().add(input, offset, limit).finalizeMac().getResult();
+    }
+
+    public Optional<byte[]> macBatch(byte[][] inputs) {
+        return ByteMac.macBatch(this, inputs);
+    }
+
+    public Optional<byte[]> macBatch(byte[] input, int[] offsets, int[] limits) {
+        return ByteMac.macBatch(this, input, offsets, limits);
+    }
+
+    private static javax.crypto.Mac newMac(
+            MacAlgorithm algorithm, SecretKey key
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        javax.crypto.Mac mac = new ByteMac(algorithm, key).mac;
+
+        // An empty update absorbs the padded key block, so every clone starts after it
+        mac.update(new byte[0], 0, 0);
+        return mac;
+    }
+
+    private javax.crypto.Mac newMac() {
+        try {
+            return (javax.crypto.Mac) this.prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                return newMac(this.algorithm, this.key);
+            } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    private static final class Template {
+
+        private final MacAlgorithm algorithm;
+        private final SecretKey key;
+
+        private Template(MacAlgorithm algorithm, SecretKey key) {
+            this.algorithm = algorithm;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Template)) {
+                return false;
+            }
+
+            Template template = (Template) o;
+            return this.algorithm == template.algorithm && this.key.equals(template.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.algorithm, this.key);
+        }
+    }
+}
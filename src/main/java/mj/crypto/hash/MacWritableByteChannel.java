@@ -0,0 +1,73 @@
+package mj.crypto.hash;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Writes to another channel and adds the bytes it accepted to a {@link ByteMac}. The written range of the source buffer
+ * is handed to the MAC as a buffer, so a direct buffer is not copied to a heap array when the provider reads direct
+ * buffers; the position and limit of the source end up where the delegate left them.
+ */
+
+public final class MacWritableByteChannel implements WritableByteChannel {
+
+    private final WritableByteChannel channel;
+    private final ByteMac mac;
+    private long count;
+
+    public MacWritableByteChannel(WritableByteChannel channel, ByteMac mac) {
+        if (Objects.isNull(channel) || Objects.isNull(mac)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        this.channel = channel;
+        this.mac = mac;
+    }
+
+    public ByteMac getMac() {
+        return mac;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        int start = src.position();
+        int written = this.channel.write(src);
+        if (written <= 0) {
+            return written;
+        }
+
+        int end = src.position();
+        int limit = src.limit();
+        try {
+            ((Buffer) src).limit(end).position(start);
+            this.mac.mac.update(src);
+        } finally {
+            ((Buffer) src).limit(limit).position(end);
+        }
+
+        this.mac.empty = false;
+        this.count += written;
+        return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -0,0 +1,298 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+import mj.crypto.enums.ReadMode;
+
+import javax.crypto.SecretKey;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Digests and MACs of several algorithms over the same input, which is read only once. Every added input continues
+ * the same message, as with ByteHash. Chunks of at least {@link #PARALLEL_THRESHOLD} bytes are fed to the algorithms
+ * on separate workers of the pool, all reading the same buffer; the next chunk is read once every worker is done.
+ */
+
+public final class MultiHash {
+
+    public static final int PARALLEL_THRESHOLD = 64 * 1024;
+
+    private final HashAlgorithm[] hashAlgorithms;
+    private final MessageDigest[] digests;
+    private final MacAlgorithm[] macAlgorithms;
+    private final javax.crypto.Mac[] macs;
+    private final ChannelReader channelReader;
+    private final StreamReader streamReader;
+    private final ForkJoinPool pool;
+    private boolean empty = true;
+
+    public MultiHash(Set<HashAlgorithm> algorithms) throws NoSuchAlgorithmException {
+        this(algorithms, ReadMode.HEAP, BufferPool.DEFAULT_BUFFER_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public MultiHash(
+            Set<HashAlgorithm> algorithms, ReadMode mode, int bufferSize, ForkJoinPool pool
+    ) throws NoSuchAlgorithmException {
+        this(sorted(algorithms), new MacAlgorithm[0], new javax.crypto.Mac[0], mode, bufferSize, pool);
+    }
+
+    public MultiHash(
+            Set<HashAlgorithm> algorithms, Map<MacAlgorithm, SecretKey> macs
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(algorithms, macs, ReadMode.HEAP, BufferPool.DEFAULT_BUFFER_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public MultiHash(
+            Set<HashAlgorithm> algorithms, Map<MacAlgorithm, SecretKey> macs, ReadMode mode, int bufferSize, ForkJoinPool pool
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(sorted(algorithms), sorted(macs), macs(sorted(macs), macs), mode, bufferSize, pool);
+    }
+
+    private MultiHash(
+            HashAlgorithm[] hashAlgorithms, MacAlgorithm[] macAlgorithms, javax.crypto.Mac[] macs,
+            ReadMode mode, int bufferSize, ForkJoinPool pool
+    ) throws NoSuchAlgorithmException {
+        if (hashAlgorithms.length + macAlgorithms.length == 0) {
+            throw new IllegalArgumentException("At least one algorithm is required");
+        }
+
+        if (Objects.isNull(pool)) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+
+        this.hashAlgorithms = hashAlgorithms;
+        this.digests = new MessageDigest[hashAlgorithms.length];
+        for (int i = 0; i < this.digests.length; i++) {
+            this.digests[i] = new ByteHash(hashAlgorithms[i]).digest;
+        }
+
+        this.macAlgorithms = macAlgorithms;
+        this.macs = macs;
+        this.channelReader = new ChannelReader(mode, bufferSize);
+        this.streamReader = new StreamReader(bufferSize);
+        this.pool = pool;
+    }
+
+    public static Map<HashAlgorithm, byte[]> hash(File input, HashAlgorithm... algorithms) {
+        try {
+            return new MultiHash(set(HashAlgorithm.class, algorithms)).add(input).finalizeAll().getHashes();
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    public static Map<HashAlgorithm, byte[]> hash(InputStream input, HashAlgorithm... algorithms) {
+        try {
+            return new MultiHash(set(HashAlgorithm.class, algorithms)).add(input).finalizeAll().getHashes();
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    public Set<HashAlgorithm> getHashAlgorithms() {
+        return set(HashAlgorithm.class, this.hashAlgorithms);
+    }
+
+    public Set<MacAlgorithm> getMacAlgorithms() {
+        return set(MacAlgorithm.class, this.macAlgorithms);
+    }
+
+    public MultiHash add(byte[] input) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return add(input, 0, input.length);
+    }
+
+    public MultiHash add(byte[] input, int offset, int length) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        update(ByteBuffer.wrap(input, offset, length));
+        this.empty = false;
+        return this;
+    }
+
+    public MultiHash add(File input) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        try {
+            this.channelReader.read(input.toPath(), this::update);
+            this.empty = false;
+        } catch (IOException e) {
+            clear();
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        }
+
+        return this;
+    }
+
+    public MultiHash add(InputStream input) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        try (InputStream inputStream = input) {
+            this.streamReader.read(inputStream, (bytes, offset, length) -> update(ByteBuffer.wrap(bytes, offset, length)));
+            this.empty = false;
+        } catch (IOException e) {
+            clear();
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        }
+
+        return this;
+    }
+
+    public MultiHash clear() {
+        this.empty = true;
+        for (MessageDigest digest : this.digests) {
+            digest.reset();
+        }
+
+        for (javax.crypto.Mac mac : this.macs) {
+            mac.reset();
+        }
+
+        return this;
+    }
+
+    /**
+     * Completes every digest and every MAC and starts a new message. Both maps are empty when nothing was added.
+     */
+    public Digests finalizeAll() {
+        if (this.empty) {
+            return new Digests(new EnumMap<>(HashAlgorithm.class), new EnumMap<>(MacAlgorithm.class));
+        }
+
+        Map<HashAlgorithm, byte[]> hashes = new EnumMap<>(HashAlgorithm.class);
+        for (int i = 0; i < this.digests.length; i++) {
+            hashes.put(this.hashAlgorithms[i], this.digests[i].digest());
+        }
+
+        Map<MacAlgorithm, byte[]> macs = new EnumMap<>(MacAlgorithm.class);
+        for (int i = 0; i < this.macs.length; i++) {
+            macs.put(this.macAlgorithms[i], this.macs[i].doFinal());
+        }
+
+        this.empty = true;
+        return new Digests(hashes, macs);
+    }
+
+    private void update(ByteBuffer chunk) {
+        int count = this.digests.length + this.macs.length;
+        if (count == 1 || chunk.remaining() < PARALLEL_THRESHOLD || this.pool.getParallelism() < 2) {
+            for (int i = 0; i < count; i++) {
+                update(i, chunk.duplicate());
+            }
+
+            return;
+        }
+
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[count - 1];
+        for (int i = 1; i < count; i++) {
+            int index = i;
+            ByteBuffer view = chunk.duplicate();
+            tasks[i - 1] = this.pool.submit(() -> update(index, view));
+        }
+
+        try {
+            update(0, chunk.duplicate());
+        } finally {
+            // Every task must be done with its view before the chunk is reused or unmapped
+            for (ForkJoinTask<?> task : tasks) {
+                task.quietlyJoin();
+            }
+        }
+
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+    private void update(int index, ByteBuffer chunk) {
+        if (index < this.digests.length) {
+            this.digests[index].update(chunk);
+        } else {
+            this.macs[index - this.digests.length].update(chunk);
+        }
+    }
+
+    private static HashAlgorithm[] sorted(Set<HashAlgorithm> algorithms) {
+        if (Objects.isNull(algorithms)) {
+            throw new IllegalArgumentException("Algorithms must not be null");
+        }
+
+        return algorithms.stream().sorted().toArray(HashAlgorithm[]::new);
+    }
+
+    private static MacAlgorithm[] sorted(Map<MacAlgorithm, SecretKey> macs) {
+        if (Objects.isNull(macs)) {
+            throw new IllegalArgumentException("Algorithms must not be null");
+        }
+
+        return macs.keySet().stream().sorted().toArray(MacAlgorithm[]::new);
+    }
+
+    private static javax.crypto.Mac[] macs(
+            MacAlgorithm[] algorithms, Map<MacAlgorithm, SecretKey> keys
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        javax.crypto.Mac[] macs = new javax.crypto.Mac[algorithms.length];
+        for (int i = 0; i < macs.length; i++) {
+            macs[i] = new ByteMac(algorithms[i], keys.get(algorithms[i])).mac;
+        }
+
+        return macs;
+    }
+
+    private static <E extends Enum<E>> Set<E> set(Class<E> type, E[] values) {
+        EnumSet<E> set = EnumSet.noneOf(type);
+        set.addAll(Arrays.asList(values));
+        return Collections.unmodifiableSet(set);
+    }
+
+    public static final class Digests {
+
+        private final Map<HashAlgorithm, byte[]> hashes;
+        private final Map<MacAlgorithm, byte[]> macs;
+
+        private Digests(Map<HashAlgorithm, byte[]> hashes, Map<MacAlgorithm, byte[]> macs) {
+            this.hashes = Collections.unmodifiableMap(hashes);
+            this.macs = Collections.unmodifiableMap(macs);
+        }
+
+        public Map<HashAlgorithm, byte[]> getHashes() {
+            return hashes;
+        }
+
+        public Map<MacAlgorithm, byte[]> getMacs() {
+            return macs;
+        }
+    }
+}
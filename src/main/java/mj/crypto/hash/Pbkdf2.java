@@ -0,0 +1,447 @@
+package mj.crypto.hash;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * PBKDF2 of RFC 8018 section 5.2 with an HMAC as the pseudorandom function. Character passwords are encoded as UTF-8,
+ * the same as {@code SecretKeyFactory} {@code PBKDF2WithHmac*}, and may be empty.
+ *
+ * The keyed MAC state is built once per password and cloned for every output block, and computes the first iteration.
+ * The others allocate nothing. When the JVM compresses SHA blocks with intrinsics, they run two JDK digests that absorb
+ * the precomputed key pads again, four compressions in hardware. Otherwise the states after the key pads are kept and
+ * every iteration restores two {@link ShaDigest} from them in place, two compressions in Java. Other MACs fall back to
+ * {@code Mac.doFinal}. Blocks of one key are computed in parallel, and {@link #deriveAll(char[][], byte[][])} spreads
+ * many passwords over the pool.
+ */
+
+public final class Pbkdf2 {
+
+    private static final byte IPAD = 0x36;
+    private static final byte OPAD = 0x5c;
+    private static final Map<HashAlgorithm, Boolean> INTRINSICS = new ConcurrentHashMap<>();
+
+    private final MacAlgorithm algorithm;
+    private final HashAlgorithm hashAlgorithm;
+    private final boolean restore;
+    private final int iterations;
+    private final int length;
+    private final int blockLength;
+    private final ForkJoinPool pool;
+
+    public Pbkdf2(MacAlgorithm algorithm, int iterations, int length) throws NoSuchAlgorithmException {
+        this(algorithm, iterations, length, ForkJoinPool.commonPool());
+    }
+
+    public Pbkdf2(MacAlgorithm algorithm, int iterations, int length, ForkJoinPool pool) throws NoSuchAlgorithmException {
+        this(algorithm, iterations, length, pool, restores(hashAlgorithm(algorithm)));
+    }
+
+    Pbkdf2(MacAlgorithm algorithm, int iterations, int length, ForkJoinPool pool, boolean restore) throws NoSuchAlgorithmException {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive");
+        }
+
+        if (length <= 0) {
+            throw new IllegalArgumentException("Length must be positive");
+        }
+
+        if (Objects.isNull(pool)) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+
+        try {
+            this.blockLength = javax.crypto.Mac.getInstance(algorithm.getValue()).getMacLength();
+        } catch (NoSuchAlgorithmException e) {
+            if (Objects.nonNull(algorithm.getException())) {
+                throw algorithm.getException();
+            }
+
+            throw e;
+        }
+
+        this.algorithm = algorithm;
+        this.hashAlgorithm = hashAlgorithm(algorithm);
+        this.restore = restore && Objects.nonNull(this.hashAlgorithm) && ShaDigest.supports(this.hashAlgorithm);
+        this.iterations = iterations;
+        this.length = length;
+        this.pool = pool;
+    }
+
+    private static HashAlgorithm hashAlgorithm(MacAlgorithm algorithm) {
+        switch (algorithm) {
+            case HMAC_SHA1:
+                return HashAlgorithm.SHA_1;
+            case HMAC_SHA224:
+                return HashAlgorithm.SHA_224;
+            case HMAC_SHA256:
+                return HashAlgorithm.SHA_256;
+            case HMAC_SHA384:
+                return HashAlgorithm.SHA_384;
+            case HMAC_SHA512:
+                return HashAlgorithm.SHA_512;
+            case HMAC_MD5:
+                return HashAlgorithm.MD5;
+            default:
+                return null;
+        }
+    }
+
+    private static int blockSize(HashAlgorithm algorithm) {
+        return algorithm == HashAlgorithm.SHA_384 || algorithm == HashAlgorithm.SHA_512 ? 128 : 64;
+    }
+
+    private static boolean restores(HashAlgorithm algorithm) {
+        if (Objects.isNull(algorithm) || !ShaDigest.supports(algorithm)) {
+            return false;
+        }
+
+        return !INTRINSICS.computeIfAbsent(algorithm, key -> {
+            String option = key == HashAlgorithm.SHA_1 ? "UseSHA1Intrinsics"
+                    : key == HashAlgorithm.SHA_224 || key == HashAlgorithm.SHA_256 ? "UseSHA256Intrinsics" : "UseSHA512Intrinsics";
+            try {
+                HotSpotDiagnosticMXBean vm = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+                return Boolean.parseBoolean(vm.getVMOption(option).getValue());
+            } catch (RuntimeException | LinkageError e) {
+                return true;
+            }
+        });
+    }
+
+    public static Optional<byte[]> derive(MacAlgorithm algorithm, char[] password, byte[] salt, int iterations, int length) {
+        try {
+            return Optional.of(new Pbkdf2(algorithm, iterations, length).derive(password, salt));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public MacAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public byte[] derive(char[] password, byte[] salt) throws InvalidKeyException {
+        return derive(password, salt, true);
+    }
+
+    public byte[] derive(byte[] password, byte[] salt) throws InvalidKeyException {
+        return derive(password, salt, true);
+    }
+
+    public byte[][] deriveAll(char[][] passwords, byte[][] salts) {
+        if (passwords.length != salts.length) {
+            throw new IllegalArgumentException("Passwords and salts must have the same length");
+        }
+
+        byte[][] keys = new byte[passwords.length][];
+        IntConsumer derive = index -> {
+            try {
+                keys[index] = derive(passwords[index], salts[index], false);
+            } catch (InvalidKeyException e) {
+                throw new IllegalArgumentException(e);
+            }
+        };
+
+        if (keys.length > 1 && this.pool.getParallelism() >= 2) {
+            this.pool.submit(() -> IntStream.range(0, keys.length).parallel().forEach(derive)).join();
+        } else {
+            IntStream.range(0, keys.length).forEach(derive);
+        }
+
+        return keys;
+    }
+
+    static byte[] encode(char[] password) {
+        if (Objects.isNull(password)) {
+            throw new IllegalArgumentException("Password must not be null");
+        }
+
+        ByteBuffer encoded = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+
+        if (encoded.hasArray()) {
+            Arrays.fill(encoded.array(), (byte) 0);
+        }
+
+        return bytes;
+    }
+
+    private byte[] derive(char[] password, byte[] salt, boolean parallel) throws InvalidKeyException {
+        byte[] bytes = encode(password);
+        try {
+            return derive(bytes, salt, parallel);
+        } finally {
+            Arrays.fill(bytes, (byte) 0);
+        }
+    }
+
+    byte[] derive(byte[] password, byte[] salt, boolean parallel) throws InvalidKeyException {
+        if (Objects.isNull(password)) {
+            throw new IllegalArgumentException("Password must not be null");
+        }
+
+        if (Objects.isNull(salt)) {
+            throw new IllegalArgumentException("Salt must not be null");
+        }
+
+        MacTemplate template;
+        KeyedDigest keyed = null;
+        try {
+            template = new MacTemplate(this.algorithm, new PasswordKey(password, this.algorithm.getValue()));
+            if (Objects.nonNull(this.hashAlgorithm)) {
+                keyed = this.restore ? new RestoredDigest(this.hashAlgorithm, password) : new PaddedDigest(this.hashAlgorithm, password);
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        KeyedDigest prototype = keyed;
+        byte[] output = new byte[this.length];
+        int blocks = (this.length + this.blockLength - 1) / this.blockLength;
+        IntConsumer block = index -> block(template.newByteMac(), Objects.isNull(prototype) ? null : prototype.copy(), salt, index, output);
+
+        try {
+            if (parallel && blocks > 1 && this.pool.getParallelism() >= 2) {
+                this.pool.submit(() -> IntStream.range(0, blocks).parallel().forEach(block)).join();
+            } else {
+                IntStream.range(0, blocks).forEach(block);
+            }
+        } finally {
+            if (Objects.nonNull(keyed)) {
+                keyed.clear();
+            }
+        }
+
+        return output;
+    }
+
+    private void block(ByteMac prf, KeyedDigest keyed, byte[] salt, int index, byte[] output) {
+        byte[] u = new byte[this.blockLength];
+        byte[] t = new byte[this.blockLength];
+
+        int number = index + 1;
+        prf.add(salt).add((byte) (number >>> 24)).add((byte) (number >>> 16)).add((byte) (number >>> 8)).add((byte) number);
+
+        try {
+            prf.finalizeMac(u, 0);
+            System.arraycopy(u, 0, t, 0, u.length);
+
+            javax.crypto.Mac mac = prf.mac;
+            for (int i = 1; i < this.iterations; i++) {
+                if (Objects.nonNull(keyed)) {
+                    keyed.mac(u);
+                } else {
+                    mac.update(u, 0, u.length);
+                    mac.doFinal(u, 0);
+                }
+
+                for (int j = 0; j < t.length; j++) {
+                    t[j] ^= u[j];
+                }
+            }
+        } catch (ShortBufferException | DigestException e) {
+            throw new IllegalStateException(e);
+        }
+
+        int offset = index * this.blockLength;
+        System.arraycopy(t, 0, output, offset, Math.min(t.length, output.length - offset));
+    }
+
+    private abstract static class KeyedDigest {
+
+        abstract KeyedDigest copy();
+
+        abstract void mac(byte[] u) throws DigestException;
+
+        abstract void clear();
+
+        static byte[] key(byte[] password, int blockSize, MessageDigest digest) {
+            byte[] key = new byte[blockSize];
+            byte[] hashed = password.length > blockSize ? digest.digest(password) : password;
+            System.arraycopy(hashed, 0, key, 0, hashed.length);
+            if (hashed != password) {
+                Arrays.fill(hashed, (byte) 0);
+            }
+
+            return key;
+        }
+    }
+
+    private static final class PaddedDigest extends KeyedDigest {
+
+        private final byte[] innerPad;
+        private final byte[] outerPad;
+        private final MessageDigest inner;
+        private final MessageDigest outer;
+
+        private PaddedDigest(HashAlgorithm algorithm, byte[] password) throws NoSuchAlgorithmException {
+            this.inner = MessageDigest.getInstance(algorithm.getValue());
+            this.outer = MessageDigest.getInstance(algorithm.getValue());
+            this.innerPad = key(password, blockSize(algorithm), this.inner);
+            this.outerPad = this.innerPad.clone();
+
+            for (int i = 0; i < this.innerPad.length; i++) {
+                this.innerPad[i] ^= IPAD;
+                this.outerPad[i] ^= OPAD;
+            }
+        }
+
+        private PaddedDigest(PaddedDigest keyed) throws NoSuchAlgorithmException {
+            this.innerPad = keyed.innerPad;
+            this.outerPad = keyed.outerPad;
+            this.inner = MessageDigest.getInstance(keyed.inner.getAlgorithm());
+            this.outer = MessageDigest.getInstance(keyed.outer.getAlgorithm());
+        }
+
+        @Override
+        KeyedDigest copy() {
+            try {
+                return new PaddedDigest(this);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        void mac(byte[] u) throws DigestException {
+            this.inner.update(this.innerPad);
+            this.inner.update(u, 0, u.length);
+            this.inner.digest(u, 0, u.length);
+
+            this.outer.update(this.outerPad);
+            this.outer.update(u, 0, u.length);
+            this.outer.digest(u, 0, u.length);
+        }
+
+        @Override
+        void clear() {
+            Arrays.fill(this.innerPad, (byte) 0);
+            Arrays.fill(this.outerPad, (byte) 0);
+        }
+    }
+
+    private static final class RestoredDigest extends KeyedDigest {
+
+        private final ShaDigest innerKeyed;
+        private final ShaDigest outerKeyed;
+        private final ShaDigest inner;
+        private final ShaDigest outer;
+
+        private RestoredDigest(HashAlgorithm algorithm, byte[] password) throws NoSuchAlgorithmException {
+            this.innerKeyed = ShaDigest.of(algorithm);
+            this.outerKeyed = ShaDigest.of(algorithm);
+            this.inner = ShaDigest.of(algorithm);
+            this.outer = ShaDigest.of(algorithm);
+
+            byte[] key = key(password, blockSize(algorithm), this.inner);
+            for (int i = 0; i < key.length; i++) {
+                key[i] ^= IPAD;
+            }
+            this.innerKeyed.update(key);
+
+            for (int i = 0; i < key.length; i++) {
+                key[i] ^= IPAD ^ OPAD;
+            }
+            this.outerKeyed.update(key);
+
+            Arrays.fill(key, (byte) 0);
+        }
+
+        private RestoredDigest(RestoredDigest keyed) throws NoSuchAlgorithmException {
+            this.innerKeyed = keyed.innerKeyed;
+            this.outerKeyed = keyed.outerKeyed;
+            this.inner = ShaDigest.of(keyed.innerKeyed.getHashAlgorithm());
+            this.outer = ShaDigest.of(keyed.outerKeyed.getHashAlgorithm());
+        }
+
+        @Override
+        KeyedDigest copy() {
+            try {
+                return new RestoredDigest(this);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        void mac(byte[] u) throws DigestException {
+            this.inner.restore(this.innerKeyed);
+            this.inner.update(u, 0, u.length);
+            this.inner.digest(u, 0, u.length);
+
+            this.outer.restore(this.outerKeyed);
+            this.outer.update(u, 0, u.length);
+            this.outer.digest(u, 0, u.length);
+        }
+
+        @Override
+        void clear() {
+            this.innerKeyed.reset();
+            this.outerKeyed.reset();
+        }
+    }
+
+    private static final class PasswordKey implements SecretKey {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] password;
+        private final String algorithm;
+
+        private PasswordKey(byte[] password, String algorithm) {
+            this.password = password.clone();
+            this.algorithm = algorithm;
+        }
+
+        @Override
+        public String getAlgorithm() {
+            return algorithm;
+        }
+
+        @Override
+        public String getFormat() {
+            return "RAW";
+        }
+
+        @Override
+        public byte[] getEncoded() {
+            return password.clone();
+        }
+    }
+}
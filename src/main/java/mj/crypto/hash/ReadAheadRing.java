@@ -0,0 +1,158 @@
+package mj.crypto.hash;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Single-producer single-consumer ring of pooled buffers. A reader thread fills the buffers from the stream while the
+ * calling thread hands the filled ones to the sink. The reader blocks when every buffer is full and the caller blocks
+ * when every buffer is empty; each side only parks after spinning briefly, and wakes the other after moving its
+ * counter.
+ */
+
+final class ReadAheadRing {
+
+    private static final int SPINS = 128;
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService READERS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, String.format("read-ahead-%d", THREADS.incrementAndGet()));
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final BufferPool pool;
+    private final ByteBuffer[] buffers;
+    private final int[] lengths;
+
+    private volatile long produced;
+    private volatile long consumed;
+    private volatile boolean abandoned;
+    private volatile Thread producer;
+    private volatile Thread consumer;
+    private IOException failure;
+
+    private ReadAheadRing(BufferPool pool, int count) {
+        this.pool = pool;
+        this.consumer = Thread.currentThread();
+        this.buffers = new ByteBuffer[count];
+        this.lengths = new int[count];
+        for (int i = 0; i < count; i++) {
+            this.buffers[i] = pool.acquire();
+        }
+    }
+
+    static void read(InputStream input, BufferPool pool, int count, StreamReader.Chunk sink) throws IOException {
+        ReadAheadRing ring = new ReadAheadRing(pool, count);
+        READERS.execute(() -> ring.produce(input));
+        ring.consume(sink);
+    }
+
+    private void produce(InputStream input) {
+        this.producer = Thread.currentThread();
+        int count = this.buffers.length;
+
+        long index = 0;
+        int length;
+        do {
+            while (index - this.consumed >= count) {
+                if (this.abandoned) {
+                    return;
+                }
+
+                await(true, index);
+            }
+
+            int slot = (int) (index % count);
+            try {
+                length = fill(input, this.buffers[slot].array());
+            } catch (IOException e) {
+                this.failure = e;
+                length = -1;
+            } catch (Throwable e) {
+                this.failure = new IOException(e);
+                length = -1;
+            }
+
+            if (this.abandoned) {
+                return;
+            }
+
+            this.lengths[slot] = length;
+            this.produced = ++index;
+            LockSupport.unpark(this.consumer);
+        } while (length > -1);
+    }
+
+    private void consume(StreamReader.Chunk sink) throws IOException {
+        int count = this.buffers.length;
+
+        boolean done = false;
+        try {
+            for (long index = 0; ; ) {
+                while (this.produced == index) {
+                    await(false, index);
+                    if (Thread.interrupted()) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while waiting for the read-ahead thread");
+                    }
+                }
+
+                int slot = (int) (index % count);
+                int length = this.lengths[slot];
+                if (length < 0) {
+                    done = true;
+                    if (Objects.nonNull(this.failure)) {
+                        throw this.failure;
+                    }
+
+                    return;
+                }
+
+                sink.update(this.buffers[slot].array(), 0, length);
+                this.consumed = ++index;
+                LockSupport.unpark(this.producer);
+            }
+        } finally {
+            if (done) {
+                for (ByteBuffer buffer : this.buffers) {
+                    this.pool.release(buffer);
+                }
+            } else {
+                // The reader may still be filling a buffer, so the buffers are left to the garbage collector
+                this.abandoned = true;
+                LockSupport.unpark(this.producer);
+            }
+        }
+    }
+
+    private void await(boolean producing, long index) {
+        for (int i = 0; i < SPINS; i++) {
+            if (producing ? index - this.consumed < this.buffers.length || this.abandoned : this.produced != index) {
+                return;
+            }
+        }
+
+        LockSupport.park(this);
+    }
+
+    private static int fill(InputStream input, byte[] bytes) throws IOException {
+        int length = 0;
+        int read;
+        while (length < bytes.length && (read = input.read(bytes, length, bytes.length - length)) > -1) {
+            length += read;
+        }
+
+        return length == 0 && bytes.length > 0 ? -1 : length;
+    }
+}
@@ -0,0 +1,279 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * SHA-1 or SHA-2 hash of one message whose progress can be saved as a {@link Checkpoint} and resumed later, possibly
+ * in another process, so an interrupted input is only read from the checkpointed offset onwards. The hash runs on the
+ * state-exposing ShaDigest instead of the JDK provider, which is slower on CPUs with SHA instructions, so it is only
+ * worth it for inputs that may have to be resumed.
+ */
+
+public final class ResumableHash extends AbstractHash<byte[]> {
+
+    private final ShaDigest sha;
+    private final BufferPool pool;
+    private long interval;
+    private Consumer<Checkpoint> listener;
+
+    public ResumableHash(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        this(ShaDigest.of(algorithm));
+    }
+
+    private ResumableHash(ShaDigest sha) {
+        super(sha);
+        this.sha = sha;
+        this.pool = BufferPool.shared(BufferPool.DEFAULT_BUFFER_SIZE, false);
+    }
+
+    public static ResumableHash resume(Checkpoint checkpoint) throws NoSuchAlgorithmException {
+        if (Objects.isNull(checkpoint)) {
+            throw new IllegalArgumentException("Checkpoint must not be null");
+        }
+
+        if (Objects.isNull(checkpoint.algorithm) || Objects.isNull(checkpoint.state) || Objects.isNull(checkpoint.pending)) {
+            throw new IllegalArgumentException("Checkpoint is incomplete");
+        }
+
+        ResumableHash hash = new ResumableHash(checkpoint.algorithm);
+        hash.sha.restore(checkpoint.offset, checkpoint.state, checkpoint.pending);
+        hash.empty = checkpoint.offset == 0;
+        return hash;
+    }
+
+    public static boolean supports(HashAlgorithm algorithm) {
+        return Objects.nonNull(algorithm) && ShaDigest.supports(algorithm);
+    }
+
+    public HashAlgorithm getAlgorithm() {
+        return this.sha.getHashAlgorithm();
+    }
+
+    public long getOffset() {
+        return this.sha.getCount();
+    }
+
+    /**
+     * Calls the listener with a new checkpoint every time the offset reaches a multiple of {@code interval} bytes while
+     * input is added; an interval of zero stops the checkpoints.
+     */
+    public ResumableHash setCheckpointInterval(long interval, Consumer<Checkpoint> listener) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("Interval must not be negative");
+        }
+
+        if (interval > 0 && Objects.isNull(listener)) {
+            throw new IllegalArgumentException("Listener must not be null");
+        }
+
+        this.interval = interval;
+        this.listener = interval > 0 ? listener : null;
+        return this;
+    }
+
+    public Checkpoint checkpoint() {
+        return new Checkpoint(getAlgorithm(), this.sha.getCount(), this.sha.getState(), this.sha.getPending());
+    }
+
+    @Override
+    public ResumableHash clear() {
+        super.clear();
+        return this;
+    }
+
+    @Override
+    public ResumableHash add(byte[] input) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return add(input, 0, input.length);
+    }
+
+    public ResumableHash add(byte[] input, int offset, int length) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        update(input, offset, length);
+        return this;
+    }
+
+    /**
+     * Adds the stream until its end. If reading fails, the bytes read so far stay absorbed and {@link #getOffset()}
+     * tells where to resume.
+     */
+    public ResumableHash add(InputStream input) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        ByteBuffer buffer = this.pool.acquire();
+        try (InputStream inputStream = input) {
+            byte[] bytes = buffer.array();
+
+            int read;
+            while ((read = inputStream.read(bytes, 0, bytes.length)) > -1) {
+                update(bytes, 0, read);
+            }
+        } catch (IOException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        } finally {
+            this.pool.release(buffer);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the file from {@code position} until its end, usually {@code add(file, hash.getOffset())} after a resume.
+     */
+    public ResumableHash add(File input, long position) {
+        if (Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must not be negative");
+        }
+
+        ByteBuffer buffer = this.pool.acquire();
+        try (FileChannel channel = FileChannel.open(input.toPath(), StandardOpenOption.READ)) {
+            byte[] bytes = buffer.array();
+
+            int read;
+            while ((read = channel.read(buffer, position)) > -1) {
+                update(bytes, 0, read);
+                position += read;
+                ((Buffer) buffer).clear();
+            }
+        } catch (IOException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        } finally {
+            this.pool.release(buffer);
+        }
+
+        return this;
+    }
+
+    private void update(byte[] input, int offset, int length) {
+        this.empty = false;
+        if (this.interval == 0) {
+            this.digest.update(input, offset, length);
+            return;
+        }
+
+        while (length > 0) {
+            long next = (getOffset() / this.interval + 1) * this.interval;
+            int count = (int) Math.min(length, next - getOffset());
+
+            this.digest.update(input, offset, count);
+            offset += count;
+            length -= count;
+
+            if (getOffset() == next) {
+                this.listener.accept(checkpoint());
+            }
+        }
+    }
+
+    /**
+     * Internal state of a hash after {@link #getOffset()} bytes: the chaining value and the bytes of the incomplete
+     * block. It reveals as much about the input as the bytes hashed so far, so store it like the input itself.
+     */
+    public static final class Checkpoint implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private static final int MAGIC = 0x52484331;
+
+        private final HashAlgorithm algorithm;
+        private final long offset;
+        private final byte[] state;
+        private final byte[] pending;
+
+        private Checkpoint(HashAlgorithm algorithm, long offset, byte[] state, byte[] pending) {
+            this.algorithm = algorithm;
+            this.offset = offset;
+            this.state = state;
+            this.pending = pending;
+        }
+
+        public static Checkpoint readFrom(InputStream input) throws IOException {
+            CheckedInputStream checked = new CheckedInputStream(input, new CRC32());
+            DataInputStream data = new DataInputStream(checked);
+
+            if (data.readInt() != MAGIC) {
+                throw new IOException("Not a hash checkpoint");
+            }
+
+            HashAlgorithm algorithm;
+            try {
+                algorithm = HashAlgorithm.valueOf(data.readUTF());
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown hash algorithm", e);
+            }
+
+            long offset = data.readLong();
+            byte[] state = new byte[data.readUnsignedShort()];
+            data.readFully(state);
+            byte[] pending = new byte[data.readUnsignedShort()];
+            data.readFully(pending);
+
+            int crc = (int) checked.getChecksum().getValue();
+            if (data.readInt() != crc) {
+                throw new IOException("Hash checkpoint is corrupt");
+            }
+
+            return new Checkpoint(algorithm, offset, state, pending);
+        }
+
+        public HashAlgorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public void writeTo(OutputStream output) throws IOException {
+            CheckedOutputStream checked = new CheckedOutputStream(output, new CRC32());
+            DataOutputStream data = new DataOutputStream(checked);
+
+            data.writeInt(MAGIC);
+            data.writeUTF(this.algorithm.name());
+            data.writeLong(this.offset);
+            data.writeShort(this.state.length);
+            data.write(this.state);
+            data.writeShort(this.pending.length);
+            data.write(this.pending);
+            data.flush();
+
+            data.writeInt((int) checked.getChecksum().getValue());
+            data.flush();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package mj.crypto.hash;
+
+import javax.crypto.ShortBufferException;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Iterated hashing without allocation: every round digests into the output region and the next round reads it back
+ * from there, which is safe because update copies its input before the following digest overwrites it.
+ * A progress listener receives the number of completed rounds every {@link #PROGRESS_INTERVAL} rounds and once at the
+ * end.
+ */
+
+final class Rounds {
+
+    static final long PROGRESS_INTERVAL = 1 << 16;
+
+    private Rounds() {
+    }
+
+    static int digest(
+            MessageDigest digest, byte[] output, int offset, int length, long rounds, LongConsumer progress
+    ) throws DigestException {
+        digest.digest(output, offset, length);
+
+        for (long round = 1; round < rounds; round++) {
+            report(progress, round);
+            digest.update(output, offset, length);
+            digest.digest(output, offset, length);
+        }
+
+        done(progress, rounds);
+        return length;
+    }
+
+    static int doFinal(
+            javax.crypto.Mac mac, byte[] output, int offset, int length, long rounds, LongConsumer progress
+    ) throws ShortBufferException {
+        mac.doFinal(output, offset);
+
+        for (long round = 1; round < rounds; round++) {
+            report(progress, round);
+            mac.update(output, offset, length);
+            mac.doFinal(output, offset);
+        }
+
+        done(progress, rounds);
+        return length;
+    }
+
+    private static void report(LongConsumer progress, long round) {
+        if (Objects.nonNull(progress) && round % PROGRESS_INTERVAL == 0) {
+            progress.accept(round);
+        }
+    }
+
+    private static void done(LongConsumer progress, long rounds) {
+        if (Objects.nonNull(progress)) {
+            progress.accept(Math.max(rounds, 1));
+        }
+    }
+}
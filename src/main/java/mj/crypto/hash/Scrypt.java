@@ -0,0 +1,251 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.MacAlgorithm;
+
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * scrypt of RFC 7914. The {@code parallelization} blocks are mixed one after the other through a single
+ * {@code int[]} arena of {@code 128 * blockSize * cost} bytes, which is wiped and returned to a pool after each
+ * derivation so repeated derivations reuse it. The pool keeps at most {@code retainedArenas} arenas resident for the
+ * life of the instance, {@value #DEFAULT_RETAINED_ARENAS} by default, so it holds up to that many times the arena size
+ * even when idle. Concurrent derivations beyond that allocate arenas that are left to the garbage collector, and zero
+ * allocates one for every derivation.
+ */
+
+public final class Scrypt {
+
+    public static final int DEFAULT_RETAINED_ARENAS = 2;
+
+    private final int cost;
+    private final int blockSize;
+    private final int parallelization;
+    private final int length;
+    private final int retainedArenas;
+    private final Pbkdf2 expand;
+    private final Pbkdf2 compress;
+    private final ArenaPool<int[]> arenas;
+
+    public Scrypt(int cost, int blockSize, int parallelization, int length) throws NoSuchAlgorithmException {
+        this(cost, blockSize, parallelization, length, DEFAULT_RETAINED_ARENAS);
+    }
+
+    public Scrypt(int cost, int blockSize, int parallelization, int length, int retainedArenas) throws NoSuchAlgorithmException {
+        if (cost < 2 || Integer.bitCount(cost) != 1) {
+            throw new IllegalArgumentException("Cost must be a power of two greater than 1");
+        }
+
+        if (blockSize < 1 || parallelization < 1 || (long) blockSize * parallelization >= 1 << 30) {
+            throw new IllegalArgumentException("Block size and parallelization must be positive and their product below 2^30");
+        }
+
+        if (blockSize < 2 && cost >= 1 << 16) {
+            throw new IllegalArgumentException("Cost must be below 2^(16 * block size)");
+        }
+
+        if ((long) parallelization * 128 * blockSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Parallelization and block size are too large");
+        }
+
+        if ((long) cost * 32 * blockSize + 64L * blockSize + 16 > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Cost and block size are too large for one arena");
+        }
+
+        if (retainedArenas < 0) {
+            throw new IllegalArgumentException("Retained arenas must not be negative");
+        }
+
+        this.cost = cost;
+        this.blockSize = blockSize;
+        this.parallelization = parallelization;
+        this.length = length;
+        this.retainedArenas = retainedArenas;
+        this.expand = new Pbkdf2(MacAlgorithm.HMAC_SHA256, 1, parallelization * 128 * blockSize);
+        this.compress = new Pbkdf2(MacAlgorithm.HMAC_SHA256, 1, length);
+        this.arenas = new ArenaPool<>(
+                () -> new int[cost * 32 * blockSize + 64 * blockSize + 16],
+                retainedArenas
+        );
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public int getParallelization() {
+        return parallelization;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getRetainedArenas() {
+        return retainedArenas;
+    }
+
+    public byte[] derive(char[] password, byte[] salt) throws InvalidKeyException {
+        byte[] bytes = Pbkdf2.encode(password);
+        try {
+            return derive(bytes, salt);
+        } finally {
+            Arrays.fill(bytes, (byte) 0);
+        }
+    }
+
+    public byte[] derive(byte[] password, byte[] salt) throws InvalidKeyException {
+        byte[] blocks = this.expand.derive(password, salt, false);
+
+        int words = 32 * this.blockSize;
+        int x = this.cost * words;
+        int[] arena = this.arenas.acquire();
+        try {
+            for (int i = 0; i < this.parallelization; i++) {
+                int offset = i * words * 4;
+                for (int j = 0; j < words; j++) {
+                    arena[x + j] = getInt(blocks, offset + j * 4);
+                }
+
+                mix(arena);
+
+                for (int j = 0; j < words; j++) {
+                    putInt(blocks, offset + j * 4, arena[x + j]);
+                }
+            }
+        } finally {
+            // V starts with the output of PBKDF2, which would let a heap dump test guesses without the memory cost
+            Arrays.fill(arena, 0);
+            this.arenas.release(arena);
+        }
+
+        try {
+            return this.compress.derive(password, blocks, false);
+        } finally {
+            Arrays.fill(blocks, (byte) 0);
+        }
+    }
+
+    private void mix(int[] arena) {
+        int words = 32 * this.blockSize;
+        int x = this.cost * words;
+        int integerify = x + (2 * this.blockSize - 1) * 16;
+
+        for (int i = 0; i < this.cost; i++) {
+            System.arraycopy(arena, x, arena, i * words, words);
+            blockMix(arena, x);
+        }
+
+        for (int i = 0; i < this.cost; i++) {
+            int v = (arena[integerify] & (this.cost - 1)) * words;
+            for (int j = 0; j < words; j++) {
+                arena[x + j] ^= arena[v + j];
+            }
+
+            blockMix(arena, x);
+        }
+    }
+
+    private void blockMix(int[] arena, int b) {
+        int y = b + 32 * this.blockSize;
+        int t = y + 32 * this.blockSize;
+
+        System.arraycopy(arena, b + (2 * this.blockSize - 1) * 16, arena, t, 16);
+        for (int i = 0; i < 2 * this.blockSize; i++) {
+            for (int j = 0; j < 16; j++) {
+                arena[t + j] ^= arena[b + i * 16 + j];
+            }
+
+            salsa(arena, t);
+            System.arraycopy(arena, t, arena, y + i * 16, 16);
+        }
+
+        for (int i = 0; i < this.blockSize; i++) {
+            System.arraycopy(arena, y + 2 * i * 16, arena, b + i * 16, 16);
+            System.arraycopy(arena, y + (2 * i + 1) * 16, arena, b + (i + this.blockSize) * 16, 16);
+        }
+    }
+
+    private static void salsa(int[] b, int o) {
+        int x0 = b[o], x1 = b[o + 1], x2 = b[o + 2], x3 = b[o + 3];
+        int x4 = b[o + 4], x5 = b[o + 5], x6 = b[o + 6], x7 = b[o + 7];
+        int x8 = b[o + 8], x9 = b[o + 9], x10 = b[o + 10], x11 = b[o + 11];
+        int x12 = b[o + 12], x13 = b[o + 13], x14 = b[o + 14], x15 = b[o + 15];
+
+        for (int i = 0; i < 8; i += 2) {
+            x4 ^= Integer.rotateLeft(x0 + x12, 7);
+            x8 ^= Integer.rotateLeft(x4 + x0, 9);
+            x12 ^= Integer.rotateLeft(x8 + x4, 13);
+            x0 ^= Integer.rotateLeft(x12 + x8, 18);
+            x9 ^= Integer.rotateLeft(x5 + x1, 7);
+            x13 ^= Integer.rotateLeft(x9 + x5, 9);
+            x1 ^= Integer.rotateLeft(x13 + x9, 13);
+            x5 ^= Integer.rotateLeft(x1 + x13, 18);
+            x14 ^= Integer.rotateLeft(x10 + x6, 7);
+            x2 ^= Integer.rotateLeft(x14 + x10, 9);
+            x6 ^= Integer.rotateLeft(x2 + x14, 13);
+            x10 ^= Integer.rotateLeft(x6 + x2, 18);
+            x3 ^= Integer.rotateLeft(x15 + x11, 7);
+            x7 ^= Integer.rotateLeft(x3 + x15, 9);
+            x11 ^= Integer.rotateLeft(x7 + x3, 13);
+            x15 ^= Integer.rotateLeft(x11 + x7, 18);
+
+            x1 ^= Integer.rotateLeft(x0 + x3, 7);
+            x2 ^= Integer.rotateLeft(x1 + x0, 9);
+            x3 ^= Integer.rotateLeft(x2 + x1, 13);
+            x0 ^= Integer.rotateLeft(x3 + x2, 18);
+            x6 ^= Integer.rotateLeft(x5 + x4, 7);
+            x7 ^= Integer.rotateLeft(x6 + x5, 9);
+            x4 ^= Integer.rotateLeft(x7 + x6, 13);
+            x5 ^= Integer.rotateLeft(x4 + x7, 18);
+            x11 ^= Integer.rotateLeft(x10 + x9, 7);
+            x8 ^= Integer.rotateLeft(x11 + x10, 9);
+            x9 ^= Integer.rotateLeft(x8 + x11, 13);
+            x10 ^= Integer.rotateLeft(x9 + x8, 18);
+            x12 ^= Integer.rotateLeft(x15 + x14, 7);
+            x13 ^= Integer.rotateLeft(x12 + x15, 9);
+            x14 ^= Integer.rotateLeft(x13 + x12, 13);
+            x15 ^= Integer.rotateLeft(x14 + x13, 18);
+        }
+
+        b[o] += x0;
+        b[o + 1] += x1;
+        b[o + 2] += x2;
+        b[o + 3] += x3;
+        b[o + 4] += x4;
+        b[o + 5] += x5;
+        b[o + 6] += x6;
+        b[o + 7] += x7;
+        b[o + 8] += x8;
+        b[o + 9] += x9;
+        b[o + 10] += x10;
+        b[o + 11] += x11;
+        b[o + 12] += x12;
+        b[o + 13] += x13;
+        b[o + 14] += x14;
+        b[o + 15] += x15;
+    }
+
+    private static int getInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF)
+                | (bytes[offset + 1] & 0xFF) << 8
+                | (bytes[offset + 2] & 0xFF) << 16
+                | (bytes[offset + 3] & 0xFF) << 24;
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >>> 8);
+        bytes[offset + 2] = (byte) (value >>> 16);
+        bytes[offset + 3] = (byte) (value >>> 24);
+    }
+}
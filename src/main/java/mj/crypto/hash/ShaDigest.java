@@ -0,0 +1,578 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * SHA-1 and SHA-2 (FIPS 180-4) whose intermediate state can be exported and restored, which the JDK providers do not
+ * allow. The state is the chaining value, the number of bytes absorbed and the bytes of the incomplete block.
+ */
+
+abstract class ShaDigest extends MessageDigest implements Cloneable {
+
+    private final HashAlgorithm algorithm;
+    private final int digestLength;
+    private final int blockSize;
+    private final int lengthSize;
+    private byte[] block;
+    private int buffered;
+    private long count;
+
+    private ShaDigest(HashAlgorithm algorithm, int digestLength, int blockSize, int lengthSize) {
+        super(algorithm.getValue());
+        this.algorithm = algorithm;
+        this.digestLength = digestLength;
+        this.blockSize = blockSize;
+        this.lengthSize = lengthSize;
+        this.block = new byte[blockSize];
+    }
+
+    static boolean supports(HashAlgorithm algorithm) {
+        switch (algorithm) {
+            case SHA_1:
+            case SHA_224:
+            case SHA_256:
+            case SHA_384:
+            case SHA_512:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    static ShaDigest of(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        if (Objects.isNull(algorithm)) {
+            throw new IllegalArgumentException("Algorithm must not be null");
+        }
+
+        switch (algorithm) {
+            case SHA_1:
+                return new Sha1();
+            case SHA_224:
+            case SHA_256:
+                return new Sha256(algorithm);
+            case SHA_384:
+            case SHA_512:
+                return new Sha512(algorithm);
+            default:
+                throw new NoSuchAlgorithmException(String.format("%s state cannot be exported", algorithm.getValue()));
+        }
+    }
+
+    HashAlgorithm getHashAlgorithm() {
+        return algorithm;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    byte[] getState() {
+        return exportState();
+    }
+
+    byte[] getPending() {
+        return Arrays.copyOf(this.block, this.buffered);
+    }
+
+    void restore(long count, byte[] state, byte[] pending) {
+        if (count < 0 || pending.length != (int) (count % this.blockSize)) {
+            throw new IllegalArgumentException("Pending bytes do not match the byte count");
+        }
+
+        importState(state);
+        System.arraycopy(pending, 0, this.block, 0, pending.length);
+        this.buffered = pending.length;
+        this.count = count;
+    }
+
+    void restore(ShaDigest source) {
+        if (source.algorithm != this.algorithm) {
+            throw new IllegalArgumentException("Source digest has a different algorithm");
+        }
+
+        copyState(source);
+        System.arraycopy(source.block, 0, this.block, 0, source.buffered);
+        this.buffered = source.buffered;
+        this.count = source.count;
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return this.digestLength;
+    }
+
+    @Override
+    protected void engineUpdate(byte input) {
+        this.count++;
+        this.block[this.buffered++] = input;
+        if (this.buffered == this.blockSize) {
+            compress(this.block, 0);
+            this.buffered = 0;
+        }
+    }
+
+    @Override
+    protected void engineUpdate(byte[] input, int offset, int length) {
+        this.count += length;
+
+        if (this.buffered > 0) {
+            int copied = Math.min(length, this.blockSize - this.buffered);
+            System.arraycopy(input, offset, this.block, this.buffered, copied);
+            this.buffered += copied;
+            offset += copied;
+            length -= copied;
+
+            if (this.buffered < this.blockSize) {
+                return;
+            }
+
+            compress(this.block, 0);
+            this.buffered = 0;
+        }
+
+        for (; length >= this.blockSize; offset += this.blockSize, length -= this.blockSize) {
+            compress(input, offset);
+        }
+
+        System.arraycopy(input, offset, this.block, 0, length);
+        this.buffered = length;
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        byte[] output = new byte[this.digestLength];
+        finish(output, 0);
+        return output;
+    }
+
+    @Override
+    protected int engineDigest(byte[] output, int offset, int length) throws DigestException {
+        if (length < this.digestLength) {
+            throw new DigestException("Output buffer is too short");
+        }
+
+        finish(output, offset);
+        return this.digestLength;
+    }
+
+    @Override
+    protected void engineReset() {
+        this.buffered = 0;
+        this.count = 0;
+        resetState();
+    }
+
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        ShaDigest copy = (ShaDigest) super.clone();
+        copy.block = this.block.clone();
+        return copy;
+    }
+
+    private void finish(byte[] output, int offset) {
+        long bits = this.count << 3;
+
+        this.block[this.buffered++] = (byte) 0x80;
+        if (this.buffered > this.blockSize - this.lengthSize) {
+            Arrays.fill(this.block, this.buffered, this.blockSize, (byte) 0);
+            compress(this.block, 0);
+            this.buffered = 0;
+        }
+
+        Arrays.fill(this.block, this.buffered, this.blockSize - 8, (byte) 0);
+        for (int i = 0; i < 8; i++) {
+            this.block[this.blockSize - 1 - i] = (byte) (bits >>> (i * 8));
+        }
+
+        compress(this.block, 0);
+        output(output, offset);
+        engineReset();
+    }
+
+    abstract void compress(byte[] input, int offset);
+
+    abstract void output(byte[] output, int offset);
+
+    abstract void resetState();
+
+    abstract byte[] exportState();
+
+    abstract void importState(byte[] state);
+
+    abstract void copyState(ShaDigest source);
+
+    private static int bigEndianInt(byte[] input, int offset) {
+        return (input[offset] << 24) | ((input[offset + 1] & 0xFF) << 16)
+                | ((input[offset + 2] & 0xFF) << 8) | (input[offset + 3] & 0xFF);
+    }
+
+    private static long bigEndianLong(byte[] input, int offset) {
+        return ((long) bigEndianInt(input, offset) << 32) | (bigEndianInt(input, offset + 4) & 0xFFFFFFFFL);
+    }
+
+    private static void putInt(int value, byte[] output, int offset) {
+        output[offset] = (byte) (value >>> 24);
+        output[offset + 1] = (byte) (value >>> 16);
+        output[offset + 2] = (byte) (value >>> 8);
+        output[offset + 3] = (byte) value;
+    }
+
+    private static void putLong(long value, byte[] output, int offset) {
+        putInt((int) (value >>> 32), output, offset);
+        putInt((int) value, output, offset + 4);
+    }
+
+    private static byte[] toBytes(int[] words) {
+        byte[] bytes = new byte[words.length * 4];
+        for (int i = 0; i < words.length; i++) {
+            putInt(words[i], bytes, i * 4);
+        }
+
+        return bytes;
+    }
+
+    private static void fromBytes(byte[] bytes, int[] words) {
+        if (bytes.length != words.length * 4) {
+            throw new IllegalArgumentException("State has the wrong length");
+        }
+
+        for (int i = 0; i < words.length; i++) {
+            words[i] = bigEndianInt(bytes, i * 4);
+        }
+    }
+
+    private static final class Sha1 extends ShaDigest {
+
+        private static final int[] INITIAL = {0x67452301, 0xefcdab89, 0x98badcfe, 0x10325476, 0xc3d2e1f0};
+
+        private int[] state = INITIAL.clone();
+        private int[] schedule = new int[80];
+
+        private Sha1() {
+            super(HashAlgorithm.SHA_1, 20, 64, 8);
+        }
+
+        @Override
+        void compress(byte[] input, int offset) {
+            int[] w = this.schedule;
+            for (int t = 0; t < 16; t++) {
+                w[t] = bigEndianInt(input, offset + t * 4);
+            }
+
+            for (int t = 16; t < 80; t++) {
+                w[t] = Integer.rotateLeft(w[t - 3] ^ w[t - 8] ^ w[t - 14] ^ w[t - 16], 1);
+            }
+
+            int a = this.state[0], b = this.state[1], c = this.state[2], d = this.state[3], e = this.state[4];
+            for (int t = 0; t < 80; t++) {
+                int f;
+                if (t < 20) {
+                    f = ((b & c) | (~b & d)) + 0x5a827999;
+                } else if (t < 40) {
+                    f = (b ^ c ^ d) + 0x6ed9eba1;
+                } else if (t < 60) {
+                    f = ((b & c) | (b & d) | (c & d)) + 0x8f1bbcdc;
+                } else {
+                    f = (b ^ c ^ d) + 0xca62c1d6;
+                }
+
+                int temp = Integer.rotateLeft(a, 5) + f + e + w[t];
+                e = d;
+                d = c;
+                c = Integer.rotateLeft(b, 30);
+                b = a;
+                a = temp;
+            }
+
+            this.state[0] += a;
+            this.state[1] += b;
+            this.state[2] += c;
+            this.state[3] += d;
+            this.state[4] += e;
+        }
+
+        @Override
+        void output(byte[] output, int offset) {
+            for (int i = 0; i < this.state.length; i++) {
+                putInt(this.state[i], output, offset + i * 4);
+            }
+        }
+
+        @Override
+        void resetState() {
+            System.arraycopy(INITIAL, 0, this.state, 0, INITIAL.length);
+        }
+
+        @Override
+        byte[] exportState() {
+            return toBytes(this.state);
+        }
+
+        @Override
+        void importState(byte[] state) {
+            fromBytes(state, this.state);
+        }
+
+        @Override
+        void copyState(ShaDigest source) {
+            System.arraycopy(((Sha1) source).state, 0, this.state, 0, this.state.length);
+        }
+
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            Sha1 copy = (Sha1) super.clone();
+            copy.state = this.state.clone();
+            copy.schedule = new int[80];
+            return copy;
+        }
+    }
+
+    private static final class Sha256 extends ShaDigest {
+
+        private static final int[] K = {
+            0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+            0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+            0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+            0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+            0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+            0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+            0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+            0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+        };
+
+        private static final int[] INITIAL_256 = {
+            0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+        };
+
+        private static final int[] INITIAL_224 = {
+            0xc1059ed8, 0x367cd507, 0x3070dd17, 0xf70e5939, 0xffc00b31, 0x68581511, 0x64f98fa7, 0xbefa4fa4
+        };
+
+        private final int[] initial;
+        private int[] state;
+        private int[] schedule = new int[64];
+
+        private Sha256(HashAlgorithm algorithm) {
+            super(algorithm, algorithm == HashAlgorithm.SHA_224 ? 28 : 32, 64, 8);
+            this.initial = algorithm == HashAlgorithm.SHA_224 ? INITIAL_224 : INITIAL_256;
+            this.state = this.initial.clone();
+        }
+
+        @Override
+        void compress(byte[] input, int offset) {
+            int[] w = this.schedule;
+            for (int t = 0; t < 16; t++) {
+                w[t] = bigEndianInt(input, offset + t * 4);
+            }
+
+            for (int t = 16; t < 64; t++) {
+                int s0 = Integer.rotateRight(w[t - 15], 7) ^ Integer.rotateRight(w[t - 15], 18) ^ (w[t - 15] >>> 3);
+                int s1 = Integer.rotateRight(w[t - 2], 17) ^ Integer.rotateRight(w[t - 2], 19) ^ (w[t - 2] >>> 10);
+                w[t] = w[t - 16] + s0 + w[t - 7] + s1;
+            }
+
+            int a = this.state[0], b = this.state[1], c = this.state[2], d = this.state[3];
+            int e = this.state[4], f = this.state[5], g = this.state[6], h = this.state[7];
+            for (int t = 0; t < 64; t++) {
+                int s1 = Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11) ^ Integer.rotateRight(e, 25);
+                int t1 = h + s1 + ((e & f) ^ (~e & g)) + K[t] + w[t];
+                int s0 = Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13) ^ Integer.rotateRight(a, 22);
+                int t2 = s0 + ((a & b) ^ (a & c) ^ (b & c));
+                h = g;
+                g = f;
+                f = e;
+                e = d + t1;
+                d = c;
+                c = b;
+                b = a;
+                a = t1 + t2;
+            }
+
+            this.state[0] += a;
+            this.state[1] += b;
+            this.state[2] += c;
+            this.state[3] += d;
+            this.state[4] += e;
+            this.state[5] += f;
+            this.state[6] += g;
+            this.state[7] += h;
+        }
+
+        @Override
+        void output(byte[] output, int offset) {
+            for (int i = 0; i < engineGetDigestLength() / 4; i++) {
+                putInt(this.state[i], output, offset + i * 4);
+            }
+        }
+
+        @Override
+        void resetState() {
+            System.arraycopy(this.initial, 0, this.state, 0, this.initial.length);
+        }
+
+        @Override
+        byte[] exportState() {
+            return toBytes(this.state);
+        }
+
+        @Override
+        void importState(byte[] state) {
+            fromBytes(state, this.state);
+        }
+
+        @Override
+        void copyState(ShaDigest source) {
+            System.arraycopy(((Sha256) source).state, 0, this.state, 0, this.state.length);
+        }
+
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            Sha256 copy = (Sha256) super.clone();
+            copy.state = this.state.clone();
+            copy.schedule = new int[64];
+            return copy;
+        }
+    }
+
+    private static final class Sha512 extends ShaDigest {
+
+        private static final long[] K = {
+            0x428a2f98d728ae22L, 0x7137449123ef65cdL, 0xb5c0fbcfec4d3b2fL, 0xe9b5dba58189dbbcL,
+            0x3956c25bf348b538L, 0x59f111f1b605d019L, 0x923f82a4af194f9bL, 0xab1c5ed5da6d8118L,
+            0xd807aa98a3030242L, 0x12835b0145706fbeL, 0x243185be4ee4b28cL, 0x550c7dc3d5ffb4e2L,
+            0x72be5d74f27b896fL, 0x80deb1fe3b1696b1L, 0x9bdc06a725c71235L, 0xc19bf174cf692694L,
+            0xe49b69c19ef14ad2L, 0xefbe4786384f25e3L, 0x0fc19dc68b8cd5b5L, 0x240ca1cc77ac9c65L,
+            0x2de92c6f592b0275L, 0x4a7484aa6ea6e483L, 0x5cb0a9dcbd41fbd4L, 0x76f988da831153b5L,
+            0x983e5152ee66dfabL, 0xa831c66d2db43210L, 0xb00327c898fb213fL, 0xbf597fc7beef0ee4L,
+            0xc6e00bf33da88fc2L, 0xd5a79147930aa725L, 0x06ca6351e003826fL, 0x142929670a0e6e70L,
+            0x27b70a8546d22ffcL, 0x2e1b21385c26c926L, 0x4d2c6dfc5ac42aedL, 0x53380d139d95b3dfL,
+            0x650a73548baf63deL, 0x766a0abb3c77b2a8L, 0x81c2c92e47edaee6L, 0x92722c851482353bL,
+            0xa2bfe8a14cf10364L, 0xa81a664bbc423001L, 0xc24b8b70d0f89791L, 0xc76c51a30654be30L,
+            0xd192e819d6ef5218L, 0xd69906245565a910L, 0xf40e35855771202aL, 0x106aa07032bbd1b8L,
+            0x19a4c116b8d2d0c8L, 0x1e376c085141ab53L, 0x2748774cdf8eeb99L, 0x34b0bcb5e19b48a8L,
+            0x391c0cb3c5c95a63L, 0x4ed8aa4ae3418acbL, 0x5b9cca4f7763e373L, 0x682e6ff3d6b2b8a3L,
+            0x748f82ee5defb2fcL, 0x78a5636f43172f60L, 0x84c87814a1f0ab72L, 0x8cc702081a6439ecL,
+            0x90befffa23631e28L, 0xa4506cebde82bde9L, 0xbef9a3f7b2c67915L, 0xc67178f2e372532bL,
+            0xca273eceea26619cL, 0xd186b8c721c0c207L, 0xeada7dd6cde0eb1eL, 0xf57d4f7fee6ed178L,
+            0x06f067aa72176fbaL, 0x0a637dc5a2c898a6L, 0x113f9804bef90daeL, 0x1b710b35131c471bL,
+            0x28db77f523047d84L, 0x32caab7b40c72493L, 0x3c9ebe0a15c9bebcL, 0x431d67c49c100d4cL,
+            0x4cc5d4becb3e42b6L, 0x597f299cfc657e2aL, 0x5fcb6fab3ad6faecL, 0x6c44198c4a475817L
+        };
+
+        private static final long[] INITIAL_512 = {
+            0x6a09e667f3bcc908L, 0xbb67ae8584caa73bL, 0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L,
+            0x510e527fade682d1L, 0x9b05688c2b3e6c1fL, 0x1f83d9abfb41bd6bL, 0x5be0cd19137e2179L
+        };
+
+        private static final long[] INITIAL_384 = {
+            0xcbbb9d5dc1059ed8L, 0x629a292a367cd507L, 0x9159015a3070dd17L, 0x152fecd8f70e5939L,
+            0x67332667ffc00b31L, 0x8eb44a8768581511L, 0xdb0c2e0d64f98fa7L, 0x47b5481dbefa4fa4L
+        };
+
+        private final long[] initial;
+        private long[] state;
+        private long[] schedule = new long[80];
+
+        private Sha512(HashAlgorithm algorithm) {
+            super(algorithm, algorithm == HashAlgorithm.SHA_384 ? 48 : 64, 128, 16);
+            this.initial = algorithm == HashAlgorithm.SHA_384 ? INITIAL_384 : INITIAL_512;
+            this.state = this.initial.clone();
+        }
+
+        @Override
+        void compress(byte[] input, int offset) {
+            long[] w = this.schedule;
+            for (int t = 0; t < 16; t++) {
+                w[t] = bigEndianLong(input, offset + t * 8);
+            }
+
+            for (int t = 16; t < 80; t++) {
+                long s0 = Long.rotateRight(w[t - 15], 1) ^ Long.rotateRight(w[t - 15], 8) ^ (w[t - 15] >>> 7);
+                long s1 = Long.rotateRight(w[t - 2], 19) ^ Long.rotateRight(w[t - 2], 61) ^ (w[t - 2] >>> 6);
+                w[t] = w[t - 16] + s0 + w[t - 7] + s1;
+            }
+
+            long a = this.state[0], b = this.state[1], c = this.state[2], d = this.state[3];
+            long e = this.state[4], f = this.state[5], g = this.state[6], h = this.state[7];
+            for (int t = 0; t < 80; t++) {
+                long s1 = Long.rotateRight(e, 14) ^ Long.rotateRight(e, 18) ^ Long.rotateRight(e, 41);
+                long t1 = h + s1 + ((e & f) ^ (~e & g)) + K[t] + w[t];
+                long s0 = Long.rotateRight(a, 28) ^ Long.rotateRight(a, 34) ^ Long.rotateRight(a, 39);
+                long t2 = s0 + ((a & b) ^ (a & c) ^ (b & c));
+                h = g;
+                g = f;
+                f = e;
+                e = d + t1;
+                d = c;
+                c = b;
+                b = a;
+                a = t1 + t2;
+            }
+
+            this.state[0] += a;
+            this.state[1] += b;
+            this.state[2] += c;
+            this.state[3] += d;
+            this.state[4] += e;
+            this.state[5] += f;
+            this.state[6] += g;
+            this.state[7] += h;
+        }
+
+        @Override
+        void output(byte[] output, int offset) {
+            for (int i = 0; i < engineGetDigestLength() / 8; i++) {
+                putLong(this.state[i], output, offset + i * 8);
+            }
+        }
+
+        @Override
+        void resetState() {
+            System.arraycopy(this.initial, 0, this.state, 0, this.initial.length);
+        }
+
+        @Override
+        byte[] exportState() {
+            byte[] bytes = new byte[this.state.length * 8];
+            for (int i = 0; i < this.state.length; i++) {
+                putLong(this.state[i], bytes, i * 8);
+            }
+
+            return bytes;
+        }
+
+        @Override
+        void importState(byte[] state) {
+            if (state.length != this.state.length * 8) {
+                throw new IllegalArgumentException("State has the wrong length");
+            }
+
+            for (int i = 0; i < this.state.length; i++) {
+                this.state[i] = bigEndianLong(state, i * 8);
+            }
+        }
+
+        @Override
+        void copyState(ShaDigest source) {
+            System.arraycopy(((Sha512) source).state, 0, this.state, 0, this.state.length);
+        }
+
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            Sha512 copy = (Sha512) super.clone();
+            copy.state = this.state.clone();
+            copy.schedule = new long[80];
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package mj.crypto.hash;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+final class StreamReader {
+
+    private final BufferPool pool;
+    private final int readAhead;
+
+    StreamReader(int bufferSize) {
+        this(bufferSize, 0);
+    }
+
+    StreamReader(int bufferSize, int readAhead) {
+        if (readAhead < 0 || readAhead == 1) {
+            throw new IllegalArgumentException("Read-ahead must be zero or at least two buffers");
+        }
+
+        this.pool = BufferPool.shared(bufferSize, false);
+        this.readAhead = readAhead;
+    }
+
+    int getBufferSize() {
+        return this.pool.getBufferSize();
+    }
+
+    int getReadAhead() {
+        return readAhead;
+    }
+
+    void read(InputStream input, Chunk sink) throws IOException {
+        if (this.readAhead > 0) {
+            ReadAheadRing.read(input, this.pool, this.readAhead, sink);
+            return;
+        }
+
+        ByteBuffer buffer = this.pool.acquire();
+        try {
+            byte[] bytes = buffer.array();
+
+            int read;
+            while ((read = input.read(bytes, 0, bytes.length)) > -1) {
+                sink.update(bytes, 0, read);
+            }
+        } finally {
+            this.pool.release(buffer);
+        }
+    }
+
+    @FunctionalInterface
+    interface Chunk {
+
+        void update(byte[] input, int offset, int length);
+    }
+}
@@ -0,0 +1,266 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+
+import javax.crypto.SecretKey;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Digests and MACs of strings that are hashed again and again, such as tenant ids or route keys. A hit returns a copy
+ * of the stored digest without touching a {@link java.security.MessageDigest}; a miss is computed by
+ * {@link StringHash} or {@link StringMac} and stored.
+ *
+ * The cache is bounded by the number of entries and by their weight, an estimate of the bytes they hold. Eviction is a
+ * segmented LRU approximated with CLOCK: new entries start in a probation segment, entries read while there are moved
+ * to a protected segment of at most 80% of the cache when the eviction hand reaches them, so a scan of one-off inputs
+ * does not push out the hot ones. Reads only set the reference bit of an entry and never lock; stores are serialized.
+ *
+ * MAC entries are found by a key id chosen by the caller instead of the key itself, so a rotated key needs a new id.
+ */
+
+public final class StringDigestCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    public static final long DEFAULT_MAX_WEIGHT = 16L * 1024 * 1024;
+
+    private static final int ENTRY_OVERHEAD = 96;
+    private static final int PROTECTED_PERCENT = 80;
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final int maxProtectedEntries;
+    private final long maxProtectedWeight;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ArrayDeque<Entry> probation = new ArrayDeque<>();
+    private final ArrayDeque<Entry> protect = new ArrayDeque<>();
+    private final Object lock = new Object();
+    private final Stats stats = new Stats();
+    private int count;
+    private long weight;
+    private int protectedCount;
+    private long protectedWeight;
+
+    public StringDigestCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT);
+    }
+
+    public StringDigestCache(int maxEntries, long maxWeight) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Maximum entries must be positive");
+        }
+
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.maxProtectedEntries = (int) ((long) maxEntries * PROTECTED_PERCENT / 100);
+        this.maxProtectedWeight = maxWeight / 100 * PROTECTED_PERCENT;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public Stats getStats() {
+        return stats;
+    }
+
+    public int getSize() {
+        return this.entries.size();
+    }
+
+    public long getWeight() {
+        synchronized (this.lock) {
+            return this.weight;
+        }
+    }
+
+    public Optional<byte[]> hash(HashAlgorithm algorithm, String input) {
+        if (Objects.isNull(algorithm) || Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return lookup(new Key(algorithm, null, input), () -> StringHash.hash(algorithm, input));
+    }
+
+    public Optional<byte[]> mac(MacAlgorithm algorithm, String keyId, SecretKey key, String input) {
+        if (Objects.isNull(algorithm) || Objects.isNull(keyId) || Objects.isNull(key) || Objects.isNull(input)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return lookup(new Key(algorithm, keyId, input), () -> StringMac.mac(algorithm, key, input));
+    }
+
+    public void invalidateAll() {
+        synchronized (this.lock) {
+            this.entries.clear();
+            this.probation.clear();
+            this.protect.clear();
+            this.count = 0;
+            this.weight = 0;
+            this.protectedCount = 0;
+            this.protectedWeight = 0;
+        }
+    }
+
+    private Optional<byte[]> lookup(Key key, Supplier<Optional<byte[]>> function) {
+        Entry entry = this.entries.get(key);
+        if (Objects.nonNull(entry)) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+
+            this.stats.hits.increment();
+            return Optional.of(entry.digest.clone());
+        }
+
+        this.stats.misses.increment();
+        Optional<byte[]> digest = function.get();
+        digest.ifPresent(value -> store(key, value.clone()));
+        return digest;
+    }
+
+    private void store(Key key, byte[] digest) {
+        long weight = 2L * (key.input.length() + (Objects.isNull(key.keyId) ? 0 : key.keyId.length()))
+                + digest.length + ENTRY_OVERHEAD;
+        if (weight > this.maxWeight) {
+            return;
+        }
+
+        synchronized (this.lock) {
+            Entry entry = new Entry(key, digest, weight);
+            if (Objects.nonNull(this.entries.putIfAbsent(key, entry))) {
+                return;
+            }
+
+            this.probation.addLast(entry);
+            this.count++;
+            this.weight += weight;
+            evict();
+        }
+    }
+
+    private void evict() {
+        while (this.count > this.maxEntries || this.weight > this.maxWeight) {
+            Entry entry = this.probation.pollFirst();
+            if (entry.referenced) {
+                entry.referenced = false;
+                promote(entry);
+                continue;
+            }
+
+            this.entries.remove(entry.key, entry);
+            this.count--;
+            this.weight -= entry.weight;
+            this.stats.evictions.increment();
+        }
+    }
+
+    private void promote(Entry entry) {
+        this.protect.addLast(entry);
+        this.protectedCount++;
+        this.protectedWeight += entry.weight;
+
+        while (this.protectedCount > this.maxProtectedEntries || this.protectedWeight > this.maxProtectedWeight) {
+            Entry victim = this.protect.pollFirst();
+            if (victim.referenced) {
+                victim.referenced = false;
+                this.protect.addLast(victim);
+                continue;
+            }
+
+            this.protectedCount--;
+            this.protectedWeight -= victim.weight;
+            this.probation.addLast(victim);
+        }
+    }
+
+    public static final class Stats {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        private Stats() {
+        }
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        public long getEvictions() {
+            return evictions.sum();
+        }
+
+        public double getHitRate() {
+            long hits = getHits();
+            long total = hits + getMisses();
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private static final class Key {
+
+        private final Enum<?> algorithm;
+        private final String keyId;
+        private final String input;
+        private final int hash;
+
+        private Key(Enum<?> algorithm, String keyId, String input) {
+            this.algorithm = algorithm;
+            this.keyId = keyId;
+            this.input = input;
+            this.hash = 31 * (31 * algorithm.hashCode() + Objects.hashCode(keyId)) + input.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) other;
+            return this.hash == key.hash && this.algorithm == key.algorithm
+                    && Objects.equals(this.keyId, key.keyId) && this.input.equals(key.input);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Key key;
+        private final byte[] digest;
+        private final long weight;
+        private volatile boolean referenced;
+
+        private Entry(Key key, byte[] digest, long weight) {
+            this.key = key;
+            this.digest = digest;
+            this.weight = weight;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package mj.crypto.hash;
 
 import mj.crypto.enums.HashAlgorithm;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -15,13 +17,27 @@ import java.util.logging.Logger;
 
 public final class StringHash extends AbstractHash<String> {
 
+    private static final HashPool<StringHash> POOL = new HashPool<>(StringHash::new);
+
+    private final CharEncoder encoder;
+
     public StringHash(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        this(algorithm, StandardCharsets.UTF_8);
+    }
+
+    public StringHash(HashAlgorithm algorithm, Charset charset) throws NoSuchAlgorithmException {
         super(algorithm);
+        this.encoder = new CharEncoder(charset, this.digest::update);
     }
 
     public static Optional<byte[]> hash(HashAlgorithm algorithm, String input) {
         try {
-            return new StringHash(algorithm).add(input).finalizeHash().getResult();
+            StringHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input).finalizeHash().getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -31,7 +47,12 @@ public final class StringHash extends AbstractHash<String> {
 
     public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, String input, int times) {
         try {
-            return new StringHash(algorithm).add(input).finalizeHash(times).getResult();
+            StringHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input).finalizeHash(times).getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -40,7 +61,12 @@ public final class StringHash extends AbstractHash<String> {
 
     public static Optional<byte[]> hash(HashAlgorithm algorithm, String input, int start) {
         try {
-            return new StringHash(algorithm).add(input, start).finalizeHash().getResult();
+            StringHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input, start).finalizeHash().getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -49,7 +75,12 @@ public final class StringHash extends AbstractHash<String> {
 
     public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, String input, int start, int times) {
         try {
-            return new StringHash(algorithm).add(input, start).finalizeHash(times).getResult();
+            StringHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input, start).finalizeHash(times).getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -58,7 +89,12 @@ public final class StringHash extends AbstractHash<String> {
 
     public static Optional<byte[]> hash(HashAlgorithm algorithm, String input, int start, int end) {
         try {
-            return new StringHash(algorithm).add(input, start, end).finalizeHash().getResult();
+            StringHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input, start, end).finalizeHash().getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -67,7 +103,12 @@ public final class StringHash extends AbstractHash<String> {
 
     public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, String input, int start, int end, int times) {
         try {
-            return new StringHash(algorithm).add(input, start, end).finalizeHash(times).getResult();
+            StringHash hash = POOL.acquire(algorithm);
+            try {
+                return hash.add(input, start, end).finalizeHash(times).getResult();
+            } finally {
+                POOL.release(algorithm, hash);
+            }
         } catch (NoSuchAlgorithmException e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage());
             return Optional.empty();
@@ -76,19 +117,25 @@ public final class StringHash extends AbstractHash<String> {
 
     @Override
     public StringHash add(String input) {
-        digest.update(input.getBytes());
-        this.empty = false;
-        return this;
+        return add(input, 0, input.length());
     }
 
     public StringHash add(String input, int start) {
-        digest.update(input.substring(start).getBytes());
-        this.empty = false;
-        return this;
+        return add(input, start, input.length());
     }
 
     public StringHash add(String input, int start, int end) {
-        digest.update(input.substring(start, end).getBytes());
+        return add((CharSequence) input, start, end);
+    }
+
+    public StringHash add(CharSequence input) {
+        return add(input, 0, input.length());
+    }
+
+    public StringHash add(CharSequence input, int start, int end) {
+        CharEncoder.checkRange(input, start, end);
+
+        this.encoder.encode(input, start, end);
         this.empty = false;
         return this;
     }
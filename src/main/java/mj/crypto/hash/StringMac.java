@@ -3,6 +3,8 @@ package mj.crypto.hash;
 import mj.crypto.enums.MacAlgorithm;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
@@ -18,8 +20,22 @@ import java.util.logging.Logger;
 
 public final class StringMac extends AbstractMac<String> {
 
+    private final CharEncoder encoder;
+
     public StringMac(MacAlgorithm algorithm, SecretKey key) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(algorithm, key, StandardCharsets.UTF_8);
+    }
+
+    public StringMac(
+            MacAlgorithm algorithm, SecretKey key, Charset charset
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
         super(algorithm, key);
+        this.encoder = new CharEncoder(charset, this.mac::update);
+    }
+
+    StringMac(javax.crypto.Mac mac) {
+        super(mac);
+        this.encoder = new CharEncoder(StandardCharsets.UTF_8, this.mac::update);
     }
 
     public static Optional<byte[]> mac(MacAlgorithm algorithm, SecretKey key, String input) {
@@ -81,31 +97,37 @@ public final class StringMac extends AbstractMac<String> {
 
     @Override
     public StringMac add(String input) {
+        return add((CharSequence) input);
+    }
+
+    public StringMac add(String input, int start) {
         if (Objects.isNull(input)) {
             throw new IllegalArgumentException("Input must not be null");
         }
 
-        this.mac.update(input.getBytes());
-        this.empty = false;
-        return this;
+        return add(input, start, input.length());
     }
 
-    public StringMac add(String input, int start) {
+    public StringMac add(String input, int start, int end) {
+        return add((CharSequence) input, start, end);
+    }
+
+    public StringMac add(CharSequence input) {
         if (Objects.isNull(input)) {
             throw new IllegalArgumentException("Input must not be null");
         }
 
-        this.mac.update(input.substring(start).getBytes());
-        this.empty = false;
-        return this;
+        return add(input, 0, input.length());
     }
 
-    public StringMac add(String input, int start, int end) {
+    public StringMac add(CharSequence input, int start, int end) {
         if (Objects.isNull(input)) {
             throw new IllegalArgumentException("Input must not be null");
         }
 
-        this.mac.update(input.substring(start, end).getBytes());
+        CharEncoder.checkRange(input, start, end);
+
+        this.encoder.encode(input, start, end);
         this.empty = false;
         return this;
     }
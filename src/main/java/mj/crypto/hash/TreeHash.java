@@ -0,0 +1,258 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Merkle tree hash of a file or stream, computed with the leaves hashed in parallel.
+ *
+ * The output follows the Merkle Tree Hash of RFC 6962 section 2.1 with a configurable leaf size:
+ * <ul>
+ *     <li>the input is split into consecutive leaves of {@code leafSize} bytes, the last one may be shorter;</li>
+ *     <li>an empty input is a single empty leaf;</li>
+ *     <li>a leaf hash is {@code H(0x00 || leaf)};</li>
+ *     <li>the hash of {@code n > 1} leaves is {@code H(0x01 || MTH(first k leaves) || MTH(remaining leaves))},
+ *     where {@code k} is the largest power of two smaller than {@code n}.</li>
+ * </ul>
+ * The result only depends on the algorithm, the leaf size and the content, never on the parallelism.
+ */
+
+public final class TreeHash extends AbstractStreamHash<File> {
+
+    public static final int DEFAULT_LEAF_SIZE = 1024 * 1024;
+
+    private static final byte LEAF = 0x00;
+    private static final byte NODE = 0x01;
+
+    private final int leafSize;
+    private final ForkJoinPool pool;
+    private final BufferPool buffers;
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(this::newDigest);
+
+    public TreeHash(HashAlgorithm algorithm) throws NoSuchAlgorithmException {
+        this(algorithm, DEFAULT_LEAF_SIZE);
+    }
+
+    public TreeHash(HashAlgorithm algorithm, int leafSize) throws NoSuchAlgorithmException {
+        this(algorithm, leafSize, ForkJoinPool.commonPool());
+    }
+
+    public TreeHash(HashAlgorithm algorithm, int leafSize, ForkJoinPool pool) throws NoSuchAlgorithmException {
+        super(algorithm);
+
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("Leaf size must be positive");
+        }
+
+        if (Objects.isNull(pool)) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+
+        this.leafSize = leafSize;
+        this.pool = pool;
+        this.buffers = new BufferPool(leafSize, false, pool.getParallelism() * 2);
+    }
+
+    public static Optional<byte[]> hash(HashAlgorithm algorithm, File input) {
+        try {
+            return new TreeHash(algorithm).add(input).finalizeHash().getResult();
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, File input, int times) {
+        try {
+            return new TreeHash(algorithm).add(input).finalizeHash(times).getResult();
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<byte[]> hash(HashAlgorithm algorithm, InputStream input) {
+        try {
+            return new TreeHash(algorithm).add(input).finalizeHash().getResult();
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<byte[]> hashTimes(HashAlgorithm algorithm, InputStream input, int times) {
+        try {
+            return new TreeHash(algorithm).add(input).finalizeHash(times).getResult();
+        } catch (NoSuchAlgorithmException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public int getLeafSize() {
+        return leafSize;
+    }
+
+    @Override
+    public TreeHash add(File input) {
+        try (FileChannel channel = FileChannel.open(input.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long leaves = Math.max(1, (size + this.leafSize - 1) / this.leafSize);
+            if (leaves > Integer.MAX_VALUE - 8) {
+                Logger.getGlobal().log(Level.WARNING, String.format(
+                        "%s has too many leaves for a leaf size of %d bytes", input, this.leafSize
+                ));
+                return this;
+            }
+
+            int count = (int) leaves;
+
+            byte[][] hashes = this.pool.submit(
+                    () -> IntStream.range(0, count)
+                            .parallel()
+                            .mapToObj(index -> leaf(channel, (long) index * this.leafSize))
+                            .toArray(byte[][]::new)
+            ).get();
+
+            offer(root(hashes, 0, hashes.length));
+        } catch (IOException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        } catch (ExecutionException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getCause().getMessage());
+        }
+
+        return this;
+    }
+
+    public TreeHash add(InputStream input) {
+        Semaphore permits = new Semaphore(this.pool.getParallelism() * 2);
+        List<CompletableFuture<byte[]>> leaves = new ArrayList<>();
+
+        try (InputStream inputStream = input) {
+            int length;
+            do {
+                permits.acquire();
+                ByteBuffer leaf = this.buffers.acquire();
+                length = fill(inputStream, leaf);
+
+                if (length == 0 && !leaves.isEmpty()) {
+                    this.buffers.release(leaf);
+                    permits.release();
+                    break;
+                }
+
+                leaves.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return leaf(leaf);
+                    } finally {
+                        this.buffers.release(leaf);
+                        permits.release();
+                    }
+                }, this.pool));
+            } while (length == this.leafSize);
+
+            byte[][] hashes = new byte[leaves.size()][];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = leaves.get(i).join();
+            }
+
+            offer(root(hashes, 0, hashes.length));
+        } catch (IOException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Logger.getGlobal().log(Level.WARNING, e.getMessage());
+        } catch (CompletionException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getCause().getMessage());
+        }
+
+        return this;
+    }
+
+    private int fill(InputStream input, ByteBuffer leaf) throws IOException {
+        byte[] bytes = leaf.array();
+
+        int length = 0;
+        int read;
+        while (length < bytes.length && (read = input.read(bytes, length, bytes.length - length)) > -1) {
+            length += read;
+        }
+
+        ((Buffer) leaf).limit(length);
+        return length;
+    }
+
+    private byte[] leaf(FileChannel channel, long position) {
+        ByteBuffer leaf = this.buffers.acquire();
+        try {
+            while (leaf.hasRemaining() && channel.read(leaf, position + leaf.position()) > -1) ;
+
+            ((Buffer) leaf).flip();
+            return leaf(leaf);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.buffers.release(leaf);
+        }
+    }
+
+    private byte[] leaf(ByteBuffer leaf) {
+        MessageDigest digest = this.digests.get();
+        digest.update(LEAF);
+        digest.update(leaf);
+        return digest.digest();
+    }
+
+    private byte[] root(byte[][] leaves, int from, int to) {
+        int count = to - from;
+        if (count == 1) {
+            return leaves[from];
+        }
+
+        int split = Integer.highestOneBit(count - 1);
+        byte[] left = root(leaves, from, from + split);
+        byte[] right = root(leaves, from + split, to);
+
+        this.digest.update(NODE);
+        this.digest.update(left);
+        this.digest.update(right);
+        return this.digest.digest();
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(this.digest.getAlgorithm(), this.digest.getProvider());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package mj.crypto.hash;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.Objects;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Releases a mapping as soon as it is consumed instead of when the buffer is garbage collected, through
+ * {@code Unsafe.invokeCleaner} on Java 9 and later or the buffer's {@code Cleaner} on Java 8. Where neither is reachable
+ * the mapping is left to the collector. Nothing may touch the buffer, or any view of it, after it is unmapped.
+ */
+
+final class Unmapper {
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+    private static final Method CLEANER;
+    private static final Method CLEAN;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        Method cleaner = null;
+        Method clean = null;
+
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            invokeCleaner = null;
+            try {
+                cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+                clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                cleaner = null;
+            }
+        }
+
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+        CLEANER = cleaner;
+        CLEAN = clean;
+    }
+
+    private Unmapper() {
+    }
+
+    static boolean isSupported() {
+        return Objects.nonNull(INVOKE_CLEANER) || Objects.nonNull(CLEANER);
+    }
+
+    static boolean unmap(MappedByteBuffer buffer) {
+        try {
+            if (Objects.nonNull(INVOKE_CLEANER)) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                return true;
+            }
+
+            if (Objects.nonNull(CLEANER)) {
+                Object cleaner = CLEANER.invoke(buffer);
+                if (Objects.nonNull(cleaner)) {
+                    CLEAN.invoke(cleaner);
+                    return true;
+                }
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return false;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,302 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.Priority;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Runs expensive verifications on its own bounded set of worker threads, so slow key derivations cannot occupy the
+ * callers' threads.
+ *
+ * Every priority has its own bounded queue and workers always take the highest priority first. A verification is
+ * rejected with a {@link RejectedExecutionException} when its queue is full or when the expected wait, from the work
+ * queued ahead of it and the average verification time, would pass its deadline. It fails with a
+ * {@link TimeoutException} when the deadline passes before a worker starts it.
+ */
+
+public final class VerificationService implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private final Map<Priority, ArrayDeque<Task>> queues = new EnumMap<>(Priority.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = this.lock.newCondition();
+    private final List<Thread> workers = new ArrayList<>();
+    private final int queueCapacity;
+    private final Metrics metrics = new Metrics();
+    private final AtomicLong averageRunNanos = new AtomicLong();
+    private boolean closed;
+
+    public VerificationService() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public VerificationService(int threads, int queueCapacity) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+
+        this.queueCapacity = queueCapacity;
+        for (Priority priority : Priority.values()) {
+            this.queues.put(priority, new ArrayDeque<>());
+        }
+
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(this::work, String.format("verification-worker-%d", i));
+            worker.setDaemon(true);
+            this.workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public CompletableFuture<Boolean> verify(byte[] expected, Supplier<byte[]> derivation, Duration timeout) {
+        return verify(expected, derivation, Priority.NORMAL, timeout);
+    }
+
+    public CompletableFuture<Boolean> verify(byte[] expected, Supplier<byte[]> derivation, Priority priority, Duration timeout) {
+        if (Objects.isNull(expected) || Objects.isNull(derivation)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        return submit(() -> MessageDigest.isEqual(expected, derivation.get()), priority, timeout);
+    }
+
+    public CompletableFuture<Boolean> submit(BooleanSupplier verification, Duration timeout) {
+        return submit(verification, Priority.NORMAL, timeout);
+    }
+
+    public CompletableFuture<Boolean> submit(BooleanSupplier verification, Priority priority, Duration timeout) {
+        if (Objects.isNull(verification) || Objects.isNull(priority) || Objects.isNull(timeout)) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+
+        long now = System.nanoTime();
+        Task task = new Task(verification, now, now + timeout.toNanos());
+        this.metrics.submitted.increment();
+
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                return reject(task, "Verification service is closed");
+            }
+
+            ArrayDeque<Task> queue = this.queues.get(priority);
+            if (queue.size() >= this.queueCapacity) {
+                return reject(task, String.format("%s verification queue is full", priority));
+            }
+
+            long ahead = 0;
+            for (Priority other : Priority.values()) {
+                if (other.compareTo(priority) <= 0) {
+                    ahead += this.queues.get(other).size();
+                }
+            }
+
+            long expectedWait = (ahead + 1) * this.averageRunNanos.get() / this.workers.size();
+            if (task.deadline - now < expectedWait) {
+                return reject(task, "Verification cannot finish before its deadline");
+            }
+
+            queue.offer(task);
+            this.available.signal();
+        } finally {
+            this.lock.unlock();
+        }
+
+        return task.future;
+    }
+
+    public int getQueueDepth() {
+        this.lock.lock();
+        try {
+            return this.queues.values().stream().mapToInt(ArrayDeque::size).sum();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int getQueueDepth(Priority priority) {
+        this.lock.lock();
+        try {
+            return this.queues.get(priority).size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void close() {
+        List<Task> pending = new ArrayList<>();
+
+        this.lock.lock();
+        try {
+            this.closed = true;
+            for (ArrayDeque<Task> queue : this.queues.values()) {
+                pending.addAll(queue);
+                queue.clear();
+            }
+
+            this.available.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+
+        for (Task task : pending) {
+            task.future.completeExceptionally(new CancellationException("Verification service is closed"));
+        }
+    }
+
+    private CompletableFuture<Boolean> reject(Task task, String message) {
+        this.metrics.rejected.increment();
+        task.future.completeExceptionally(new RejectedExecutionException(message));
+        return task.future;
+    }
+
+    private void work() {
+        Optional<Task> next;
+        while ((next = take()).isPresent()) {
+            Task task = next.get();
+            if (task.future.isDone()) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            this.metrics.recordWait(start - task.submitted);
+
+            if (start - task.deadline > 0) {
+                this.metrics.expired.increment();
+                task.future.completeExceptionally(new TimeoutException("Verification deadline passed while queued"));
+                continue;
+            }
+
+            boolean verified = false;
+            Throwable failure = null;
+            try {
+                verified = task.verification.getAsBoolean();
+            } catch (Throwable e) {
+                // Errors complete the future too, so the caller does not hang and the worker keeps running
+                failure = e;
+            }
+
+            long run = System.nanoTime() - start;
+            this.averageRunNanos.updateAndGet(average -> average == 0 ? run : average + (run - average) / 8);
+            this.metrics.completed.increment();
+
+            if (Objects.nonNull(failure)) {
+                task.future.completeExceptionally(failure);
+            } else {
+                task.future.complete(verified);
+            }
+        }
+    }
+
+    private Optional<Task> take() {
+        this.lock.lock();
+        try {
+            while (!this.closed) {
+                for (ArrayDeque<Task> queue : this.queues.values()) {
+                    Task task = queue.poll();
+                    if (Objects.nonNull(task)) {
+                        return Optional.of(task);
+                    }
+                }
+
+                this.available.awaitUninterruptibly();
+            }
+
+            return Optional.empty();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private static final class Task {
+
+        private final BooleanSupplier verification;
+        private final long submitted;
+        private final long deadline;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private Task(BooleanSupplier verification, long submitted, long deadline) {
+            this.verification = verification;
+            this.submitted = submitted;
+            this.deadline = deadline;
+        }
+    }
+
+    public static final class Metrics {
+
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder expired = new LongAdder();
+        private final LongAdder waits = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+        private Metrics() {
+        }
+
+        public long getSubmitted() {
+            return submitted.sum();
+        }
+
+        public long getCompleted() {
+            return completed.sum();
+        }
+
+        public long getRejected() {
+            return rejected.sum();
+        }
+
+        public long getExpired() {
+            return expired.sum();
+        }
+
+        public Duration getAverageWait() {
+            long count = waits.sum();
+            return Duration.ofNanos(count == 0 ? 0 : totalWaitNanos.sum() / count);
+        }
+
+        public Duration getMaxWait() {
+            return Duration.ofNanos(maxWaitNanos.get());
+        }
+
+        private void recordWait(long nanos) {
+            this.waits.increment();
+            this.totalWaitNanos.add(nanos);
+            this.maxWaitNanos.accumulate(nanos);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package mj.crypto.hash;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class Argon2idTest {
+
+    private static final String RFC_9106_TAG = "0d640df58d78766c08c037a34a8b53c9d01ef0452d75b65eb52520e96b01e659";
+
+    @Parameterized.Parameter
+    public int threads;
+
+    @Parameterized.Parameters
+    public static Integer[] data() {
+        return new Integer[]{1, 3};
+    }
+
+    private static String hex(byte[] bytes) {
+        return String.format("%0" + bytes.length * 2 + "x", new BigInteger(1, bytes));
+    }
+
+    private static byte[] filled(int length, int value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+
+    @Test
+    public void blake2bTest() {
+        byte[] output = new byte[64];
+
+        new Blake2b(64).digest(output, 0);
+        Assert.assertEquals(
+                "786a02f742015903c6c6fd852552d272912f4740e15847618a86e217f71f5419"
+                        + "d25e1031afee585313896444934eb04b903a685b1448b755d56f701afe9be2ce",
+                hex(output)
+        );
+
+        new Blake2b(64).update("abc".getBytes()).digest(output, 0);
+        Assert.assertEquals(
+                "ba80a53f981c4d0d6a2797b69f12f6e94c212f14685ac4b74b12bb6fdbffa2d1"
+                        + "7d87c5392aab792dc252d5de4533cc9518d38aa8dbf1925ab92386edd4009923",
+                hex(output)
+        );
+    }
+
+    @Test
+    public void deriveInvalidArgumentsTest() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Argon2id(16, 1, 4, 32));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Argon2id(32, 0, 4, 32));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Argon2id(32, 1, 4, 3));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Argon2id(32, 1, 4, 32, Runnable::run, -1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Argon2id(32, 1, 4, 32).derive(new byte[0], new byte[7]));
+    }
+
+    @Test
+    public void deriveRfc9106VectorTest() {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Argon2id argon2 = new Argon2id(32, 3, 4, 32, executor);
+
+            for (int i = 0; i < 2; i++) {
+                Assert.assertEquals(RFC_9106_TAG, hex(argon2.derive(
+                        filled(32, 0x01), filled(16, 0x02), filled(8, 0x03), filled(12, 0x04)
+                )));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void deriveWithoutRetainedArenasTest() {
+        Argon2id argon2 = new Argon2id(32, 3, 4, 32, Runnable::run, 0);
+        Assert.assertEquals(0, argon2.getRetainedArenas());
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(RFC_9106_TAG, hex(argon2.derive(
+                    filled(32, 0x01), filled(16, 0x02), filled(8, 0x03), filled(12, 0x04)
+            )));
+        }
+    }
+
+    @Test
+    public void deriveWithDataDependentPassesTest() {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            byte[] expected = new Argon2id(1024, 2, 2, 64, Runnable::run).derive("password".toCharArray(), filled(16, 0x02));
+
+            Assert.assertArrayEquals(expected, new Argon2id(1024, 2, 2, 64, executor).derive("password".toCharArray(), filled(16, 0x02)));
+            Assert.assertEquals(64, expected.length);
+            Assert.assertFalse(Arrays.equals(
+                    expected,
+                    new Argon2id(1024, 2, 2, 64, executor).derive("passwore".toCharArray(), filled(16, 0x02))
+            ));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
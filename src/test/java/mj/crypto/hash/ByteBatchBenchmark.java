@@ -0,0 +1,92 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.KeyAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Batched hashing and MAC computation of small records against one static helper call per record.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ByteBatchBenchmark {
+
+    @Param({"1", "64", "4096", "1048576"})
+    public int batch;
+
+    @Param({"32"})
+    public int length;
+
+    private byte[][] records;
+    private SecretKey key;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ByteBatchBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void createRecords() throws NoSuchAlgorithmException {
+        Random random = new Random(batch);
+
+        this.records = new byte[batch][length];
+        for (byte[] record : this.records) {
+            random.nextBytes(record);
+        }
+
+        this.key = mj.crypto.key.KeyGenerator.generate(KeyAlgorithm.HMAC_SHA256);
+    }
+
+    @Benchmark
+    public void hashPerRecord(Blackhole blackhole) {
+        for (byte[] record : this.records) {
+            blackhole.consume(ByteHash.hash(HashAlgorithm.SHA_256, record));
+        }
+    }
+
+    @Benchmark
+    public Optional<byte[]> hashBatch() {
+        return ByteHash.hashBatch(HashAlgorithm.SHA_256, this.records);
+    }
+
+    @Benchmark
+    public void macPerRecord(Blackhole blackhole) {
+        for (byte[] record : this.records) {
+            blackhole.consume(ByteMac.mac(MacAlgorithm.HMAC_SHA512, this.key, record));
+        }
+    }
+
+    @Benchmark
+    public Optional<byte[]> macBatch() {
+        return ByteMac.macBatch(MacAlgorithm.HMAC_SHA512, this.key, this.records);
+    }
+}
@@ -2,6 +2,7 @@ package mj.crypto.hash;
 
 import mj.crypto.enums.HashAlgorithm;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -9,8 +10,10 @@ import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
 
 import java.nio.ByteBuffer;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -200,4 +203,135 @@ public class ByteHashTest {
         Assert.assertFalse(hash.clear().finalizeHash().getResult().isPresent());
         Assert.assertFalse(hash.finalizeHash().getResult().isPresent());
     }
+
+    @Test
+    public void hashIntoOutputBufferAndCheckResultTest() throws NoSuchAlgorithmException, DigestException {
+        byte[] input = this.bytes.get(1);
+        byte[] expected = ByteHash.hash(algorithm, input).get();
+        byte[] expectedTimes = ByteHash.hashTimes(algorithm, input, 3).get();
+        int length = expected.length;
+
+        ByteHash hash = new ByteHash(algorithm);
+        byte[] output = new byte[length + 5];
+        Assert.assertEquals(0, hash.finalizeHash(output, 5));
+        Assert.assertEquals(length, hash.add(input).finalizeHash(output, 5));
+        Assert.assertArrayEquals(expected, Arrays.copyOfRange(output, 5, output.length));
+        Assert.assertEquals(length, hash.add(input).finalizeHash(output, 5, 3));
+        Assert.assertArrayEquals(expectedTimes, Arrays.copyOfRange(output, 5, output.length));
+        Assert.assertThrows(DigestException.class, () -> hash.add(input).finalizeHash(output, 6));
+
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(length + 2), ByteBuffer.allocateDirect(length + 2))) {
+            hash.clear();
+            buffer.position(2);
+            Assert.assertEquals(length, hash.add(input).finalizeHash(buffer));
+            Assert.assertFalse(buffer.hasRemaining());
+
+            byte[] result = new byte[length];
+            ((ByteBuffer) buffer.position(2)).get(result);
+            Assert.assertArrayEquals(expected, result);
+        }
+    }
+
+    @Test
+    public void finalizeHashIntoOutputMatchesAllocatingFinalizeTest() throws NoSuchAlgorithmException, DigestException {
+        byte[] input = this.bytes.get(2);
+        ByteHash hash = new ByteHash(algorithm);
+        int length = hash.add(input).finalizeHash().getResult().get().length;
+
+        byte[] output = new byte[length];
+        Assert.assertEquals(length, hash.add(input).finalizeHash(output, 0));
+        Assert.assertArrayEquals(hash.add(input).finalizeHash().getResult().get(), output);
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        Assert.assertEquals(length, hash.add(input).finalizeHash(buffer));
+        Assert.assertArrayEquals(hash.add(input).finalizeHash().getResult().get(), buffer.array());
+
+        for (int times = 0; times < 4; times++) {
+            Assert.assertEquals(length, hash.add(input).finalizeHash(output, 0, times));
+            Assert.assertArrayEquals(hash.add(input).finalizeHash(times).getResult().get(), output);
+        }
+    }
+
+    @Test
+    public void hashBatchAndCheckResultTest() {
+        for (int count : new int[]{0, 1, 64, 5000}) {
+            byte[][] inputs = new byte[count][];
+            byte[] packed = new byte[count * 3];
+            int[] offsets = new int[count];
+            int[] limits = new int[count];
+            for (int i = 0; i < count; i++) {
+                inputs[i] = new byte[]{(byte) i, (byte) (i >> 8), (byte) (i >> 16)};
+                System.arraycopy(inputs[i], 0, packed, i * 3, 3);
+                offsets[i] = i * 3;
+                limits[i] = i % 4;
+            }
+
+            byte[] result = ByteHash.hashBatch(algorithm, inputs).get();
+            byte[] rangeResult = ByteHash.hashBatch(algorithm, packed, offsets, limits).get();
+            Assert.assertEquals(result.length, rangeResult.length);
+
+            for (int i = 0; i < count; i++) {
+                byte[] expected = ByteHash.hash(algorithm, inputs[i]).get();
+                int length = expected.length;
+                Assert.assertArrayEquals(expected, Arrays.copyOfRange(result, i * length, (i + 1) * length));
+
+                Assert.assertArrayEquals(
+                        ByteHash.hash(algorithm, packed, offsets[i], limits[i]).get(),
+                        Arrays.copyOfRange(rangeResult, i * length, (i + 1) * length)
+                );
+            }
+        }
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> ByteHash.hashBatch(algorithm, new byte[0], new int[1], new int[0]));
+    }
+
+    @Test
+    public void hashManyTimesWithProgressAndCheckResultTest() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+        long times = Rounds.PROGRESS_INTERVAL * 2 + 3;
+
+        byte[] expected = digest.digest(this.bytes.get(1));
+        for (long i = 1; i < times; i++) {
+            expected = digest.digest(expected);
+        }
+
+        List<Long> progress = new ArrayList<>();
+        Assert.assertArrayEquals(expected, ByteHash.hashTimes(algorithm, this.bytes.get(1), times, progress::add).get());
+        Assert.assertEquals(Arrays.asList(Rounds.PROGRESS_INTERVAL, Rounds.PROGRESS_INTERVAL * 2, times), progress);
+        Assert.assertArrayEquals(
+                ByteHash.hashTimes(algorithm, this.bytes.get(1), 5).get(),
+                ByteHash.hashTimes(algorithm, this.bytes.get(1), 5L, null).get()
+        );
+    }
+
+    @Test
+    public void hashGatheringBuffersAndCheckResultTest() throws NoSuchAlgorithmException {
+        byte[] joined = "This sentence is for hashingThis is my sample hashing".getBytes();
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        direct.put("This is my sample hashing".getBytes()).flip();
+        ByteBuffer[] inputs = {
+                ByteBuffer.allocate(0), ByteBuffer.wrap("This sentence is for hashing".getBytes()), direct, ByteBuffer.wrap(joined)
+        };
+
+        byte[] expected = ByteHash.hash(algorithm, joined).get();
+        Assert.assertArrayEquals(expected, new ByteHash(algorithm).add(inputs, 0, 3).finalizeHash().getResult().get());
+        Assert.assertEquals(inputs[1].limit(), inputs[1].position());
+        Assert.assertEquals(direct.limit(), direct.position());
+        Assert.assertEquals(0, inputs[3].position());
+
+        Assert.assertFalse(new ByteHash(algorithm).add(inputs, 0, 0).finalizeHash().getResult().isPresent());
+        Assert.assertFalse(new ByteHash(algorithm).add(inputs, 0, 3).finalizeHash().getResult().isPresent());
+
+        Class<? extends Throwable> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new ByteHash(algorithm).add((ByteBuffer[]) null, 0, 0));
+        Assert.assertThrows(clz, () -> new ByteHash(algorithm).add(inputs, 2, 3));
+        Assert.assertThrows(clz, () -> new ByteHash(algorithm).add(new ByteBuffer[]{null}, 0, 1));
+    }
+
+    @Test
+    public void hashBatchTooLargeTest() {
+        Assume.assumeTrue(algorithm == HashAlgorithm.SHA_512);
+        byte[][] inputs = new byte[Integer.MAX_VALUE / 64 + 1][];
+        Assert.assertThrows(IllegalArgumentException.class, () -> ByteHash.hashBatch(algorithm, inputs));
+    }
 }
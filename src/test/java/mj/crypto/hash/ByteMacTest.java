@@ -3,6 +3,7 @@ package mj.crypto.hash;
 import mj.crypto.enums.KeyAlgorithm;
 import mj.crypto.enums.MacAlgorithm;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -13,9 +14,11 @@ import org.junit.runners.Parameterized.Parameters;
 import javax.crypto.KeyGenerator;
 import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
 import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -195,4 +198,130 @@ public class ByteMacTest {
 
         Assert.assertFalse(byteMac.clear().finalizeMac().getResult().isPresent());
     }
+
+    @Test
+    public void macIntoOutputBufferAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException, ShortBufferException {
+        byte[] input = this.bytes.get(1);
+        byte[] expected = ByteMac.mac(algorithm, key, input).get();
+        byte[] expectedTimes = ByteMac.macTimes(algorithm, key, input, 3).get();
+        int length = expected.length;
+
+        ByteMac mac = new ByteMac(algorithm, key);
+        byte[] output = new byte[length + 5];
+        Assert.assertEquals(0, mac.finalizeMac(output, 5));
+        Assert.assertEquals(length, mac.add(input).finalizeMac(output, 5));
+        Assert.assertArrayEquals(expected, Arrays.copyOfRange(output, 5, output.length));
+        Assert.assertEquals(length, mac.add(input).finalizeMac(output, 5, 3));
+        Assert.assertArrayEquals(expectedTimes, Arrays.copyOfRange(output, 5, output.length));
+        Assert.assertThrows(ShortBufferException.class, () -> mac.add(input).finalizeMac(output, 6));
+
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(length + 2), ByteBuffer.allocateDirect(length + 2))) {
+            mac.clear();
+            buffer.position(2);
+            Assert.assertEquals(length, mac.add(input).finalizeMac(buffer));
+            Assert.assertFalse(buffer.hasRemaining());
+
+            byte[] result = new byte[length];
+            ((ByteBuffer) buffer.position(2)).get(result);
+            Assert.assertArrayEquals(expected, result);
+        }
+    }
+
+    @Test
+    public void finalizeMacIntoOutputMatchesAllocatingFinalizeTest() throws NoSuchAlgorithmException, InvalidKeyException, ShortBufferException {
+        byte[] input = this.bytes.get(2);
+        ByteMac mac = new ByteMac(algorithm, key);
+        int length = mac.add(input).finalizeMac().getResult().get().length;
+
+        byte[] output = new byte[length];
+        Assert.assertEquals(length, mac.add(input).finalizeMac(output, 0));
+        Assert.assertArrayEquals(mac.add(input).finalizeMac().getResult().get(), output);
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        Assert.assertEquals(length, mac.add(input).finalizeMac(buffer));
+        Assert.assertArrayEquals(mac.add(input).finalizeMac().getResult().get(), buffer.array());
+
+        for (int times = 0; times < 4; times++) {
+            Assert.assertEquals(length, mac.add(input).finalizeMac(output, 0, times));
+            Assert.assertArrayEquals(mac.add(input).finalizeMac(times).getResult().get(), output);
+        }
+    }
+
+    @Test
+    public void macBatchAndCheckResultTest() {
+        for (int count : new int[]{0, 1, 64, 5000}) {
+            byte[][] inputs = new byte[count][];
+            byte[] packed = new byte[count * 3];
+            int[] offsets = new int[count];
+            int[] limits = new int[count];
+            for (int i = 0; i < count; i++) {
+                inputs[i] = new byte[]{(byte) i, (byte) (i >> 8), (byte) (i >> 16)};
+                System.arraycopy(inputs[i], 0, packed, i * 3, 3);
+                offsets[i] = i * 3;
+                limits[i] = i % 4;
+            }
+
+            byte[] result = ByteMac.macBatch(algorithm, key, inputs).get();
+            byte[] rangeResult = ByteMac.macBatch(algorithm, key, packed, offsets, limits).get();
+            Assert.assertEquals(result.length, rangeResult.length);
+
+            for (int i = 0; i < count; i++) {
+                byte[] expected = ByteMac.mac(algorithm, key, inputs[i]).get();
+                int length = expected.length;
+                Assert.assertArrayEquals(expected, Arrays.copyOfRange(result, i * length, (i + 1) * length));
+
+                Assert.assertArrayEquals(
+                        ByteMac.mac(algorithm, key, packed, offsets[i], limits[i]).get(),
+                        Arrays.copyOfRange(rangeResult, i * length, (i + 1) * length)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void macManyTimesWithProgressAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        Mac mac = Mac.getInstance(algorithm.getValue());
+        mac.init(key);
+        long times = Rounds.PROGRESS_INTERVAL + 2;
+
+        byte[] expected = mac.doFinal(new byte[]{1, 2, 3});
+        for (long i = 1; i < times; i++) {
+            expected = mac.doFinal(expected);
+        }
+
+        List<Long> progress = new ArrayList<>();
+        Assert.assertArrayEquals(expected, ByteMac.macTimes(algorithm, key, new byte[]{1, 2, 3}, times, progress::add).get());
+        Assert.assertEquals(Arrays.asList(Rounds.PROGRESS_INTERVAL, times), progress);
+    }
+
+    @Test
+    public void macGatheringBuffersAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        byte[] joined = "This sentence is for hashingThis is my sample hashing".getBytes();
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        direct.put("This is my sample hashing".getBytes()).flip();
+        ByteBuffer[] inputs = {
+                ByteBuffer.allocate(0), ByteBuffer.wrap("This sentence is for hashing".getBytes()), direct, ByteBuffer.wrap(joined)
+        };
+
+        byte[] expected = ByteMac.mac(algorithm, key, joined).get();
+        Assert.assertArrayEquals(expected, new ByteMac(algorithm, key).add(inputs, 0, 3).finalizeMac().getResult().get());
+        Assert.assertEquals(inputs[1].limit(), inputs[1].position());
+        Assert.assertEquals(direct.limit(), direct.position());
+        Assert.assertEquals(0, inputs[3].position());
+
+        Assert.assertFalse(new ByteMac(algorithm, key).add(inputs, 0, 0).finalizeMac().getResult().isPresent());
+        Assert.assertFalse(new ByteMac(algorithm, key).add(inputs, 0, 3).finalizeMac().getResult().isPresent());
+
+        Class<? extends Throwable> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new ByteMac(algorithm, key).add((ByteBuffer[]) null, 0, 0));
+        Assert.assertThrows(clz, () -> new ByteMac(algorithm, key).add(inputs, 2, 3));
+        Assert.assertThrows(clz, () -> new ByteMac(algorithm, key).add(new ByteBuffer[]{null}, 0, 1));
+    }
+
+    @Test
+    public void macBatchTooLargeTest() {
+        Assume.assumeTrue(algorithm == MacAlgorithm.HMAC_SHA512);
+        byte[][] inputs = new byte[Integer.MAX_VALUE / 64 + 1][];
+        Assert.assertThrows(IllegalArgumentException.class, () -> ByteMac.macBatch(algorithm, key, inputs));
+    }
 }
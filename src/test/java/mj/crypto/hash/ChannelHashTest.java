@@ -0,0 +1,131 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class ChannelHashTest {
+
+    @ClassRule
+    public static final TemporaryFolder tmpDir = new TemporaryFolder();
+    private static final byte[] content = new byte[300_000];
+
+    static {
+        new Random(37).nextBytes(content);
+    }
+
+    @Parameterized.Parameter
+    public HashAlgorithm algorithm;
+
+    @Parameterized.Parameters
+    public static HashAlgorithm[] data() {
+        return HashAlgorithm.values();
+    }
+
+    static ReadableByteChannel failing() {
+        return new ReadableByteChannel() {
+            private boolean open = true;
+
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                throw new IOException("Connection reset");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return this.open;
+            }
+
+            @Override
+            public void close() {
+                this.open = false;
+            }
+        };
+    }
+
+    @Test
+    public void hashWithInvalidArgumentsTest() throws IOException {
+        Class<? extends Exception> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new ChannelHash(algorithm).add(null));
+
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.source().configureBlocking(false);
+            Assert.assertThrows(clz, () -> new ChannelHash(algorithm).add(pipe.source()));
+            Assert.assertFalse(pipe.source().isOpen());
+        } finally {
+            pipe.source().close();
+            pipe.sink().close();
+        }
+    }
+
+    @Test
+    public void hashWithoutPassingValueTest() throws NoSuchAlgorithmException {
+        Assert.assertFalse(new ChannelHash(algorithm).finalizeHash().getResult().isPresent());
+        Assert.assertArrayEquals(
+                ByteHash.hash(algorithm, new byte[0]).get(),
+                ChannelHash.hash(algorithm, Channels.newChannel(new ByteArrayInputStream(new byte[0]))).get()
+        );
+    }
+
+    @Test
+    public void hashChannelAndCheckResultTest() throws IOException {
+        File file = tmpDir.newFile(String.format("Channel%s.bin", algorithm));
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(content);
+        }
+
+        byte[] expected = ByteHash.hash(algorithm, content).get();
+        Assert.assertArrayEquals(expected, ChannelHash.hash(algorithm, Channels.newChannel(new ByteArrayInputStream(content))).get());
+
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        Assert.assertArrayEquals(expected, ChannelHash.hash(algorithm, channel).get());
+        Assert.assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void hashManyChannelsAndCheckResultTest() throws NoSuchAlgorithmException {
+        byte[] expected = new InputStreamHash(algorithm)
+                .add(new ByteArrayInputStream(content, 0, 1000))
+                .add(new ByteArrayInputStream(content, 1000, 2000))
+                .finalizeHash().getResult().get();
+
+        byte[] actual = new ChannelHash(algorithm, 512)
+                .add(Channels.newChannel(new ByteArrayInputStream(content, 0, 1000)))
+                .add(Channels.newChannel(new ByteArrayInputStream(content, 1000, 2000)))
+                .finalizeHash().getResult().get();
+
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void hashFailingChannelTest() throws NoSuchAlgorithmException {
+        ReadableByteChannel channel = failing();
+        Assert.assertFalse(new ChannelHash(algorithm).add(channel).finalizeHash().getResult().isPresent());
+        Assert.assertFalse(channel.isOpen());
+    }
+}
@@ -0,0 +1,87 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.MacAlgorithm;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class ChannelMacTest {
+
+    private static final byte[] content = new byte[300_000];
+    private static final SecretKey key = new SecretKeySpec("This is a key for the MAC".getBytes(), "RAW");
+
+    static {
+        new Random(41).nextBytes(content);
+    }
+
+    @Parameterized.Parameter
+    public MacAlgorithm algorithm;
+
+    @Parameterized.Parameters
+    public static MacAlgorithm[] data() {
+        return MacAlgorithm.values();
+    }
+
+    @Test
+    public void macWithInvalidArgumentsTest() throws IOException {
+        Class<? extends Exception> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new ChannelMac(algorithm, key).add(null));
+
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.source().configureBlocking(false);
+            Assert.assertThrows(clz, () -> new ChannelMac(algorithm, key).add(pipe.source()));
+            Assert.assertFalse(pipe.source().isOpen());
+        } finally {
+            pipe.source().close();
+            pipe.sink().close();
+        }
+    }
+
+    @Test
+    public void macChannelAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        Assert.assertFalse(new ChannelMac(algorithm, key).finalizeMac().getResult().isPresent());
+        Assert.assertArrayEquals(
+                ByteMac.mac(algorithm, key, content).get(),
+                ChannelMac.mac(algorithm, key, Channels.newChannel(new ByteArrayInputStream(content))).get()
+        );
+
+        byte[] expected = new InputStreamMac(algorithm, key)
+                .add(new ByteArrayInputStream(content, 0, 1000))
+                .add(new ByteArrayInputStream(content, 1000, 2000))
+                .finalizeMac().getResult().get();
+
+        byte[] actual = new ChannelMac(algorithm, key, 512)
+                .add(Channels.newChannel(new ByteArrayInputStream(content, 0, 1000)))
+                .add(Channels.newChannel(new ByteArrayInputStream(content, 1000, 2000)))
+                .finalizeMac().getResult().get();
+
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void macFailingChannelTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        ReadableByteChannel channel = ChannelHashTest.failing();
+        Assert.assertFalse(new ChannelMac(algorithm, key).add(channel).finalizeMac().getResult().isPresent());
+        Assert.assertFalse(channel.isOpen());
+    }
+}
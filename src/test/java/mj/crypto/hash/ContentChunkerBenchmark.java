@@ -0,0 +1,84 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Time to find the FastCDC boundaries of an in-memory input alone, and to chunk and digest it. Divide the size by the
+ * reported average time to get bytes per second; gc.alloc.rate.norm shows the allocation per operation.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ContentChunkerBenchmark {
+
+    @Param({"67108864"})
+    public int size;
+
+    @Param({"SHA_256"})
+    public HashAlgorithm algorithm;
+
+    private byte[] content;
+    private ContentChunker chunker;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(ContentChunkerBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build()
+        ).run();
+    }
+
+    @Setup
+    public void createContent() throws NoSuchAlgorithmException {
+        this.content = new byte[size];
+        new Random(size).nextBytes(this.content);
+        this.chunker = new ContentChunker(algorithm);
+    }
+
+    @Benchmark
+    public long boundaries() {
+        long count = 0;
+        for (int offset = 0; offset < this.content.length; count++) {
+            offset += this.chunker.cut(this.content, offset, this.content.length - offset);
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public long chunkAndDigest() throws IOException {
+        long[] count = new long[1];
+        this.chunker.chunk(new ByteArrayInputStream(this.content), (offset, length, digest, digestOffset) -> count[0]++);
+        return count[0];
+    }
+}
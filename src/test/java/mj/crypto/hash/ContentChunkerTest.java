@@ -0,0 +1,190 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class ContentChunkerTest {
+
+    @ClassRule
+    public static final TemporaryFolder tmpDir = new TemporaryFolder();
+    private static final byte[] content = new byte[10 * 1024 * 1024 + 123];
+    private static File file;
+
+    @Parameterized.Parameter
+    public int parallelism;
+
+    private ForkJoinPool pool;
+
+    @Parameterized.Parameters
+    public static Integer[] data() {
+        return new Integer[]{1, 3};
+    }
+
+    @BeforeClass
+    public static void initFile() throws IOException {
+        new Random(23).nextBytes(content);
+
+        file = tmpDir.newFile("TestFile.bin");
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(content);
+        }
+    }
+
+    @AfterClass
+    public static void destroyFile() {
+        tmpDir.delete();
+    }
+
+    @Before
+    public void initPool() {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @After
+    public void destroyPool() {
+        this.pool.shutdown();
+    }
+
+    private ContentChunker chunker() throws NoSuchAlgorithmException {
+        return new ContentChunker(HashAlgorithm.SHA_256, 256, 1024, 8192, this.pool);
+    }
+
+    private static void assertChunks(ContentChunker chunker, byte[] input, List<ContentChunker.Chunk> chunks) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(chunker.getAlgorithm().getValue());
+
+        long offset = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            ContentChunker.Chunk chunk = chunks.get(i);
+            Assert.assertEquals(offset, chunk.getOffset());
+            Assert.assertTrue(chunk.getLength() <= chunker.getMaxSize());
+            Assert.assertTrue(i == chunks.size() - 1 || chunk.getLength() >= chunker.getMinSize());
+
+            digest.update(input, (int) chunk.getOffset(), chunk.getLength());
+            Assert.assertArrayEquals(digest.digest(), chunk.getDigest());
+            offset += chunk.getLength();
+        }
+
+        Assert.assertEquals(input.length, offset);
+    }
+
+    @Test
+    public void chunkerWithInvalidArgumentsTest() {
+        Class<? extends Exception> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new ContentChunker(null));
+        Assert.assertThrows(clz, () -> new ContentChunker(HashAlgorithm.SHA_256, 256, 1000, 8192));
+        Assert.assertThrows(clz, () -> new ContentChunker(HashAlgorithm.SHA_256, 1024, 1024, 8192));
+        Assert.assertThrows(clz, () -> new ContentChunker(HashAlgorithm.SHA_256, 256, 1024, 1024));
+        Assert.assertThrows(clz, () -> chunker().chunk((File) null));
+    }
+
+    @Test
+    public void chunkEmptyInputTest() throws NoSuchAlgorithmException, IOException {
+        Assert.assertTrue(chunker().chunk(new ByteArrayInputStream(new byte[0])).isEmpty());
+    }
+
+    @Test
+    public void chunkFileAndCheckResultTest() throws NoSuchAlgorithmException, IOException {
+        ContentChunker chunker = chunker();
+        List<ContentChunker.Chunk> chunks = chunker.chunk(file);
+        assertChunks(chunker, content, chunks);
+
+        double average = (double) content.length / chunks.size();
+        Assert.assertTrue(average > chunker.getAverageSize() / 2.0 && average < chunker.getAverageSize() * 2.0);
+
+        ContentChunker defaultChunker = new ContentChunker(HashAlgorithm.SHA_256);
+        List<ContentChunker.Chunk> defaults = defaultChunker.chunk(file);
+        assertChunks(defaultChunker, content, defaults);
+        Assert.assertTrue(defaults.size() < chunks.size());
+    }
+
+    @Test
+    public void chunkBoundariesDoNotDependOnReadsTest() throws NoSuchAlgorithmException, IOException {
+        ContentChunker chunker = chunker();
+        List<ContentChunker.Chunk> expected = chunker.chunk(file);
+
+        InputStream trickle = new ByteArrayInputStream(content) {
+            private final Random random = new Random(29);
+
+            @Override
+            public synchronized int read(byte[] bytes, int offset, int length) {
+                return super.read(bytes, offset, Math.min(length, 1 + this.random.nextInt(100_000)));
+            }
+        };
+
+        List<ContentChunker.Chunk> actual = chunker.chunk(trickle);
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i).getLength(), actual.get(i).getLength());
+            Assert.assertArrayEquals(expected.get(i).getDigest(), actual.get(i).getDigest());
+        }
+    }
+
+    @Test
+    public void chunkAfterInsertionKeepsMostDigestsTest() throws NoSuchAlgorithmException, IOException {
+        ContentChunker chunker = chunker();
+        byte[] original = new byte[1024 * 1024];
+        System.arraycopy(content, 0, original, 0, original.length);
+
+        byte[] edited = new byte[original.length + 10];
+        System.arraycopy(original, 0, edited, 0, 500_000);
+        System.arraycopy(original, 500_000, edited, 500_010, original.length - 500_000);
+
+        Set<String> digests = new HashSet<>();
+        List<ContentChunker.Chunk> before = chunker.chunk(new ByteArrayInputStream(original));
+        for (ContentChunker.Chunk chunk : before) {
+            digests.add(new String(chunk.getDigest(), "ISO-8859-1"));
+        }
+
+        int shared = 0;
+        List<ContentChunker.Chunk> after = chunker.chunk(new ByteArrayInputStream(edited));
+        for (ContentChunker.Chunk chunk : after) {
+            if (digests.contains(new String(chunk.getDigest(), "ISO-8859-1"))) {
+                shared++;
+            }
+        }
+
+        assertChunks(chunker, edited, after);
+        Assert.assertTrue(shared >= after.size() - 3);
+    }
+
+    @Test
+    public void chunkSinkFailureTest() throws NoSuchAlgorithmException {
+        ContentChunker chunker = chunker();
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> chunker.chunk(file, (offset, length, digest, digestOffset) -> {
+            if (offset > 5_000_000) {
+                throw new IllegalStateException("Sink full");
+            }
+        }));
+
+        Assert.assertEquals("Sink full", e.getMessage());
+    }
+}
@@ -0,0 +1,111 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.ReadMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Throughput of FileHash for every ReadMode against the former byte-at-a-time DigestInputStream path. The sizes where
+ * mapped overtakes heap decide the threshold of ReadMode.AUTO.
+ * Divide the file size by the reported average time to get bytes per second.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FileHashBenchmark {
+
+    @Param({"1024", "65536", "1048576", "4194304", "16777216", "104857600", "4294967296"})
+    public long size;
+
+    @Param({"SHA_256"})
+    public HashAlgorithm algorithm;
+
+    private File file;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FileHashBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        this.file = File.createTempFile("file-hash-benchmark", ".bin");
+
+        byte[] chunk = new byte[1 << 20];
+        new Random(size).nextBytes(chunk);
+
+        try (RandomAccessFile output = new RandomAccessFile(this.file, "rw")) {
+            for (long written = 0; written < size; written += chunk.length) {
+                output.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() {
+        this.file.delete();
+    }
+
+    @Benchmark
+    public byte[] digestInputStream() throws NoSuchAlgorithmException, IOException {
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+        try (InputStream inputStream = new DigestInputStream(new FileInputStream(this.file), digest)) {
+            while (inputStream.read() > -1) ;
+        }
+
+        return digest.digest();
+    }
+
+    @Benchmark
+    public byte[] heap() throws NoSuchAlgorithmException {
+        return new FileHash(algorithm, ReadMode.HEAP).add(this.file).finalizeHash().getResult().get();
+    }
+
+    @Benchmark
+    public byte[] direct() throws NoSuchAlgorithmException {
+        return new FileHash(algorithm, ReadMode.DIRECT).add(this.file).finalizeHash().getResult().get();
+    }
+
+    @Benchmark
+    public byte[] mapped() throws NoSuchAlgorithmException {
+        return new FileHash(algorithm, ReadMode.MAPPED).add(this.file).finalizeHash().getResult().get();
+    }
+
+    @Benchmark
+    public byte[] auto() throws NoSuchAlgorithmException {
+        return new FileHash(algorithm, ReadMode.AUTO).add(this.file).finalizeHash().getResult().get();
+    }
+}
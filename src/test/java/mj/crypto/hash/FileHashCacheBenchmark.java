@@ -0,0 +1,91 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Time to get the digest of an unchanged file from FileHashCache against hashing it again with FileHash.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FileHashCacheBenchmark {
+
+    @Param({"1048576"})
+    public long size;
+
+    @Param({"SHA_256"})
+    public HashAlgorithm algorithm;
+
+    private File file;
+    private File index;
+    private FileHashCache cache;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FileHashCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        this.file = File.createTempFile("file-hash-cache-benchmark", ".bin");
+        this.index = File.createTempFile("file-hash-cache-benchmark", ".idx");
+        this.index.delete();
+
+        byte[] content = new byte[(int) size];
+        new Random(size).nextBytes(content);
+        try (RandomAccessFile output = new RandomAccessFile(this.file, "rw")) {
+            output.write(content);
+        }
+
+        this.file.setLastModified(System.currentTimeMillis() - 60_000);
+        this.cache = new FileHashCache(this.index.toPath());
+        this.cache.hash(algorithm, this.file);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        this.cache.close();
+        this.file.delete();
+        this.index.delete();
+    }
+
+    @Benchmark
+    public Optional<byte[]> fileHash() {
+        return FileHash.hash(algorithm, this.file);
+    }
+
+    @Benchmark
+    public Optional<byte[]> cached() {
+        return this.cache.hash(algorithm, this.file);
+    }
+}
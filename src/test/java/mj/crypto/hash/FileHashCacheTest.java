@@ -0,0 +1,206 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class FileHashCacheTest {
+
+    @Rule
+    public final TemporaryFolder tmpDir = new TemporaryFolder();
+
+    @Parameterized.Parameter
+    public HashAlgorithm algorithm;
+
+    @Parameterized.Parameters
+    public static HashAlgorithm[] data() {
+        return HashAlgorithm.values();
+    }
+
+    private File newFile(String name, String content, long age) throws IOException {
+        File file = new File(tmpDir.getRoot(), name);
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(content.getBytes());
+        }
+
+        Assert.assertTrue(file.setLastModified(System.currentTimeMillis() - age));
+        return file;
+    }
+
+    private Path index() {
+        return new File(tmpDir.getRoot(), "hashes.idx").toPath();
+    }
+
+    @Test
+    public void cacheWithInvalidArgumentsTest() throws IOException {
+        Class<? extends Exception> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new FileHashCache(null));
+        Assert.assertThrows(clz, () -> new FileHashCache(index(), 0, Duration.ZERO, 0));
+        Assert.assertThrows(clz, () -> new FileHashCache(index(), 16, Duration.ofSeconds(-1), 0));
+        Assert.assertThrows(clz, () -> new FileHashCache(index(), 16, Duration.ZERO, 2));
+
+        Path other = tmpDir.newFile("other.idx").toPath();
+        Files.write(other, "not an index".getBytes());
+        Assert.assertThrows(IOException.class, () -> new FileHashCache(other));
+    }
+
+    @Test
+    public void hashMissingFileTest() throws IOException {
+        try (FileHashCache cache = new FileHashCache(index())) {
+            Assert.assertFalse(cache.hash(algorithm, new File(tmpDir.getRoot(), "missing.txt")).isPresent());
+        }
+    }
+
+    @Test
+    public void hashAndHitTest() throws IOException {
+        File file = newFile("file.txt", "This sentence is for hashing", 60_000);
+
+        try (FileHashCache cache = new FileHashCache(index())) {
+            byte[] expected = FileHash.hash(algorithm, file).get();
+            Assert.assertArrayEquals(expected, cache.hash(algorithm, file).get());
+            Assert.assertArrayEquals(expected, cache.hash(algorithm, file).get());
+
+            Assert.assertEquals(1, cache.getStats().getMisses());
+            Assert.assertEquals(1, cache.getStats().getStores());
+            Assert.assertEquals(1, cache.getStats().getHits());
+        }
+
+        try (FileHashCache cache = new FileHashCache(index(), 8, Duration.ZERO, 0)) {
+            Assert.assertEquals(FileHashCache.DEFAULT_CAPACITY, cache.getCapacity());
+            Assert.assertArrayEquals(FileHash.hash(algorithm, file).get(), cache.hash(algorithm, file).get());
+            Assert.assertEquals(1, cache.getStats().getHits());
+        }
+    }
+
+    @Test
+    public void hashChangedAndRecentFileTest() throws IOException {
+        File file = newFile("file.txt", "This sentence is for hashing", 60_000);
+
+        try (FileHashCache cache = new FileHashCache(index())) {
+            cache.hash(algorithm, file);
+
+            newFile("file.txt", "This sentence is changed", 30_000);
+            Assert.assertArrayEquals(FileHash.hash(algorithm, file).get(), cache.hash(algorithm, file).get());
+            Assert.assertEquals(2, cache.getStats().getMisses());
+
+            File recent = newFile("recent.txt", "Just written", 0);
+            Assert.assertArrayEquals(FileHash.hash(algorithm, recent).get(), cache.hash(algorithm, recent).get());
+            Assert.assertArrayEquals(FileHash.hash(algorithm, recent).get(), cache.hash(algorithm, recent).get());
+            Assert.assertEquals(4, cache.getStats().getMisses());
+            Assert.assertEquals(2, cache.getStats().getStores());
+        }
+    }
+
+    @Test
+    public void hashWithVerifyOnSampleTest() throws IOException {
+        File file = newFile("file.txt", "This sentence is for hashing", 60_000);
+
+        try (FileHashCache cache = new FileHashCache(index(), 64, Duration.ZERO, 1)) {
+            cache.hash(algorithm, file);
+            cache.hash(algorithm, file);
+            Assert.assertEquals(1, cache.getStats().getSampled());
+            Assert.assertEquals(0, cache.getStats().getMismatches());
+
+            long modified = file.lastModified();
+            newFile("file.txt", "This sentence is for HASHING", 0);
+            Assert.assertTrue(file.setLastModified(modified));
+
+            Assert.assertArrayEquals(FileHash.hash(algorithm, file).get(), cache.hash(algorithm, file).get());
+            Assert.assertEquals(1, cache.getStats().getMismatches());
+            Assert.assertArrayEquals(FileHash.hash(algorithm, file).get(), cache.hash(algorithm, file).get());
+            Assert.assertEquals(1, cache.getStats().getMismatches());
+        }
+    }
+
+    @Test
+    public void hashWithEvictionTest() throws IOException, InterruptedException {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            files.add(newFile(String.format("file%d.txt", i), String.format("Content %d", i), 60_000));
+        }
+
+        try (FileHashCache cache = new FileHashCache(index(), 4, Duration.ofMillis(20), 0)) {
+            for (int round = 0; round < 2; round++) {
+                for (File file : files) {
+                    Assert.assertArrayEquals(FileHash.hash(algorithm, file).get(), cache.hash(algorithm, file).get());
+                }
+            }
+
+            Assert.assertTrue(cache.getStats().getEvictions() > 0);
+
+            Thread.sleep(50);
+            Assert.assertEquals(4, cache.evictIdle());
+            Assert.assertEquals(0, cache.evictIdle());
+        }
+    }
+
+    @Test
+    public void macAndHitTest() throws IOException {
+        File file = newFile("file.txt", "This sentence is for hashing", 60_000);
+        SecretKey key = new SecretKeySpec("first key".getBytes(), "HmacSHA256");
+        SecretKey other = new SecretKeySpec("second key".getBytes(), "HmacSHA256");
+
+        try (FileHashCache cache = new FileHashCache(index())) {
+            for (int i = 0; i < 2; i++) {
+                Assert.assertArrayEquals(FileMac.mac(MacAlgorithm.HMAC_SHA256, key, file).get(), cache.mac(MacAlgorithm.HMAC_SHA256, key, file).get());
+                Assert.assertArrayEquals(FileMac.mac(MacAlgorithm.HMAC_SHA256, other, file).get(), cache.mac(MacAlgorithm.HMAC_SHA256, other, file).get());
+            }
+
+            cache.hash(algorithm, file);
+            Assert.assertEquals(3, cache.getStats().getMisses());
+            Assert.assertEquals(2, cache.getStats().getHits());
+
+            cache.clear();
+            cache.mac(MacAlgorithm.HMAC_SHA256, key, file);
+            Assert.assertEquals(4, cache.getStats().getMisses());
+        }
+    }
+
+    @Test
+    public void closeTwiceAndUseAfterCloseTest() throws IOException {
+        File file = newFile("file.txt", "This sentence is for hashing", 60_000);
+        Path path = index().toAbsolutePath().normalize();
+
+        FileHashCache first = new FileHashCache(index());
+        FileHashCache second = new FileHashCache(index());
+        first.hash(algorithm, file);
+
+        first.close();
+        first.close();
+        Assert.assertTrue(FileHashCache.LOCKS.containsKey(path));
+        Assert.assertThrows(IllegalStateException.class, () -> first.hash(algorithm, file));
+        Assert.assertThrows(IllegalStateException.class, first::clear);
+
+        Assert.assertArrayEquals(FileHash.hash(algorithm, file).get(), second.hash(algorithm, file).get());
+        Assert.assertEquals(1, second.getStats().getHits());
+        second.close();
+        Assert.assertFalse(FileHashCache.LOCKS.containsKey(path));
+
+        Files.write(index(), "not an index".getBytes());
+        Assert.assertThrows(IOException.class, () -> new FileHashCache(index()));
+        Assert.assertFalse(FileHashCache.LOCKS.containsKey(path));
+    }
+}
@@ -1,6 +1,8 @@
 package mj.crypto.hash;
 
 import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.ReadMode;
+import mj.crypto.enums.StreamMode;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -12,12 +14,23 @@ import org.junit.runners.Parameterized;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * @Project cryptography
@@ -140,6 +153,48 @@ public class FileHashTest {
                 .ifPresent(hash -> Assert.assertArrayEquals(hash, digest.digest()));
     }
 
+    @Test
+    public void hashFileUsingEveryReadModeAndCheckResultTest() throws NoSuchAlgorithmException, IOException {
+        File file = files.get(1);
+
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+        try (FileInputStream stream = new FileInputStream(file)) {
+            int read;
+            while ((read = stream.read()) != -1) {
+                digest.update((byte) read);
+            }
+        }
+
+        byte[] expected = digest.digest();
+        for (ReadMode mode : ReadMode.values()) {
+            Assert.assertArrayEquals(expected, new FileHash(algorithm, mode).add(file).finalizeHash().getResult().get());
+            Assert.assertArrayEquals(expected, new FileHash(algorithm, mode, 7).add(file).finalizeHash().getResult().get());
+            Assert.assertArrayEquals(expected, new FileHash(algorithm, mode, 7, 5).add(file).finalizeHash().getResult().get());
+        }
+    }
+
+    @Test
+    public void hashFileInMappedWindowsAndCheckResultTest() throws NoSuchAlgorithmException, IOException {
+        byte[] content = new byte[(int) ChannelReader.MAPPED_THRESHOLD + 12345];
+        new Random(43).nextBytes(content);
+
+        File file = tmpDir.newFile(String.format("Windows%s.bin", algorithm));
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(content);
+        }
+
+        byte[] expected = MessageDigest.getInstance(algorithm.getValue()).digest(content);
+        for (int mapSize : new int[]{4096, 1000 * 1000, ChannelReader.DEFAULT_MAP_SIZE}) {
+            FileHash hash = new FileHash(algorithm, ReadMode.MAPPED, BufferPool.DEFAULT_BUFFER_SIZE, mapSize);
+            Assert.assertEquals(mapSize, hash.getMapSize());
+            Assert.assertArrayEquals(expected, hash.add(file).finalizeHash().getResult().get());
+        }
+
+        Assert.assertArrayEquals(expected, new FileHash(algorithm, ReadMode.AUTO, BufferPool.DEFAULT_BUFFER_SIZE, 1 << 20).add(file).finalizeHash().getResult().get());
+        Assert.assertTrue(Unmapper.isSupported());
+        Assert.assertThrows(IllegalArgumentException.class, () -> new FileHash(algorithm, ReadMode.MAPPED, 1024, 0));
+    }
+
     @Test
     public void hashListOfFilesAndCheckResultTest() throws NoSuchAlgorithmException, IOException {
         FileHash hash = new FileHash(algorithm);
@@ -180,6 +235,124 @@ public class FileHashTest {
         Assert.assertArrayEquals(hash.finalizeHash(times).getResult().get(), digest.digest());
     }
 
+    @Test
+    public void hashAllFilesInParallelAndCheckResultTest() throws NoSuchAlgorithmException {
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (File file : files) {
+                paths.add(file.toPath());
+            }
+        }
+
+        Map<Path, byte[]> result = FileHash.hashAll(algorithm, paths, 4);
+        Assert.assertEquals(new ArrayList<>(result.keySet()), paths.subList(0, files.size()));
+        for (Map.Entry<Path, byte[]> entry : result.entrySet()) {
+            Assert.assertArrayEquals(FileHash.hash(algorithm, entry.getKey().toFile()).get(), entry.getValue());
+        }
+
+        FileHash hash = new FileHash(algorithm);
+        for (Path path : paths) {
+            hash.add(path.toFile());
+        }
+
+        Assert.assertArrayEquals(
+                hash.finalizeHash(3).getResult().get(),
+                new FileHash(algorithm).addAll(paths, 4).finalizeHash(3).getResult().get()
+        );
+    }
+
+    @Test
+    public void hashListOfFilesIntoOutputBufferAndCheckResultTest() throws NoSuchAlgorithmException, DigestException {
+        for (int times : new int[]{0, 1, 3}) {
+            FileHash single = new FileHash(algorithm);
+            FileHash hash = new FileHash(algorithm);
+            for (File file : files) {
+                hash.add(file);
+            }
+
+            byte[] expectedSingle = single.add(files.get(1)).finalizeHash(times).getResult().get();
+            byte[] expected = hash.finalizeHash(times).getResult().get();
+
+            for (File file : files) {
+                hash.add(file);
+            }
+
+            byte[] output = new byte[expected.length + 1];
+            Assert.assertEquals(expected.length, hash.finalizeHash(output, 1, times));
+            Assert.assertArrayEquals(expected, Arrays.copyOfRange(output, 1, output.length));
+            Assert.assertEquals(0, hash.finalizeHash(output, 1, times));
+
+            Assert.assertEquals(expectedSingle.length, single.add(files.get(1)).finalizeHash(output, 1, times));
+            Assert.assertArrayEquals(expectedSingle, Arrays.copyOfRange(output, 1, output.length));
+        }
+    }
+
+    @Test
+    public void hashListOfFilesInRetainModeAndCheckResultTest() throws NoSuchAlgorithmException {
+        for (int times : new int[]{1, 3}) {
+            FileHash fold = new FileHash(algorithm);
+            FileHash retain = new FileHash(algorithm);
+            retain.setMode(StreamMode.RETAIN);
+
+            for (File file : files) {
+                fold.add(file);
+                retain.add(file);
+            }
+
+            Assert.assertEquals(files.size(), retain.size());
+            for (int i = 0; i < files.size(); i++) {
+                Assert.assertArrayEquals(FileHash.hash(algorithm, files.get(i)).get(), retain.getHash(i));
+            }
+
+            Assert.assertThrows(IllegalStateException.class, () -> fold.getHash(0));
+            Assert.assertThrows(IllegalStateException.class, () -> retain.setMode(StreamMode.FOLD));
+            Assert.assertArrayEquals(fold.finalizeHash(times).getResult().get(), retain.finalizeHash(times).getResult().get());
+            Assert.assertEquals(0, retain.size());
+        }
+    }
+
+    @Test
+    public void retainModeTrimsArenaAfterFinalizeTest() throws NoSuchAlgorithmException, ReflectiveOperationException {
+        FileHash retain = new FileHash(algorithm);
+        retain.setMode(StreamMode.RETAIN);
+
+        Field field = AbstractStreamHash.class.getDeclaredField("arena");
+        field.setAccessible(true);
+        DigestArena arena = (DigestArena) field.get(retain);
+
+        int length = MessageDigest.getInstance(algorithm.getValue()).getDigestLength();
+        for (int i = 0; i < 100; i++) {
+            retain.add(files.get(0));
+        }
+
+        Assert.assertTrue(arena.capacity() >= 100 * length);
+        Assert.assertTrue(retain.finalizeHash().getResult().isPresent());
+        Assert.assertEquals(16 * length, arena.capacity());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void hashThroughDeprecatedQueueTest() throws NoSuchAlgorithmException {
+        AbstractStreamHash<byte[]> legacy = new AbstractStreamHash<byte[]>(algorithm) {
+            @Override
+            public AbstractStreamHash<byte[]> add(byte[] input) {
+                this.hashes.add(this.digest.digest(input));
+                return this;
+            }
+        };
+
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+        byte[] first = digest.digest("first".getBytes());
+        byte[] second = digest.digest("second".getBytes());
+        digest.update(first);
+        digest.update(second);
+
+        Assert.assertArrayEquals(first, legacy.add("first".getBytes()).finalizeHash().getResult().get());
+        legacy.add("first".getBytes()).add("second".getBytes());
+        Assert.assertEquals(2, legacy.size());
+        Assert.assertArrayEquals(digest.digest(), legacy.finalizeHash().getResult().get());
+    }
+
     @Test
     public void hashListOfFilesAndResetTheDigestAndCheckTheResultTest() throws NoSuchAlgorithmException {
         FileHash hash = new FileHash(algorithm);
@@ -190,4 +363,20 @@ public class FileHashTest {
 
         Assert.assertFalse(hash.clear().finalizeHash().getResult().isPresent());
     }
+
+    @Test
+    public void hashAsyncAndCheckResultTest() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (File file : files) {
+                Assert.assertArrayEquals(FileHash.hash(algorithm, file).get(), FileHash.hashAsync(algorithm, file, executor).get());
+            }
+
+            CompletableFuture<byte[]> missing = FileHash.hashAsync(algorithm, new File(tmpDir.getRoot(), "Missing.txt"), executor);
+            ExecutionException e = Assert.assertThrows(ExecutionException.class, missing::get);
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package mj.crypto.hash;
 
 import mj.crypto.enums.KeyAlgorithm;
 import mj.crypto.enums.MacAlgorithm;
+import mj.crypto.enums.ReadMode;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -11,11 +12,16 @@ import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.crypto.KeyGenerator;
 import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
@@ -119,6 +125,26 @@ public class FileMacTest {
         Assert.assertTrue(FileMac.macTimes(algorithm, key, file, 2).isPresent());
     }
 
+    @Test
+    public void hashFileContainingNegativeBytesUsingEveryReadModeAndCheckResultTest() throws NoSuchAlgorithmException, IOException, InvalidKeyException {
+        byte[] bytes = {0x01, (byte) 0xFF, 0x02, (byte) 0x80, (byte) 0xFF};
+
+        File file = tmpDir.newFile();
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(bytes);
+        }
+
+        Mac mac = Mac.getInstance(algorithm.getValue());
+        mac.init(key);
+        byte[] expected = mac.doFinal(bytes);
+
+        for (ReadMode mode : ReadMode.values()) {
+            Assert.assertArrayEquals(expected, new FileMac(algorithm, key, mode).add(file).finalizeMac().getResult().get());
+            Assert.assertArrayEquals(expected, new FileMac(algorithm, key, mode, 3).add(file).finalizeMac().getResult().get());
+            Assert.assertArrayEquals(expected, new FileMac(algorithm, key, mode, 3, 2).add(file).finalizeMac().getResult().get());
+        }
+    }
+
     @Test
     public void hashFileAndCheckResultTest() throws NoSuchAlgorithmException, IOException, InvalidKeyException {
         File file = files.get(1);
@@ -208,4 +234,20 @@ public class FileMacTest {
         Assert.assertFalse(hash.clear().finalizeMac().getResult().isPresent());
         Assert.assertFalse(hash.finalizeMac().getResult().isPresent());
     }
+
+    @Test
+    public void macAsyncAndCheckResultTest() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (File file : files) {
+                Assert.assertArrayEquals(FileMac.mac(algorithm, key, file).get(), FileMac.macAsync(algorithm, key, file, executor).get());
+            }
+
+            CompletableFuture<byte[]> missing = FileMac.macAsync(algorithm, key, new File(tmpDir.getRoot(), "Missing.txt"), executor);
+            ExecutionException e = Assert.assertThrows(ExecutionException.class, missing::get);
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
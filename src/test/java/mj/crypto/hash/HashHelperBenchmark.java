@@ -0,0 +1,89 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Operations per second and allocation rate (gc.alloc.rate.norm) of the static ByteHash and StringHash helpers,
+ * which reuse thread-local hashers, against building a new hasher for every call.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HashHelperBenchmark {
+
+    @Param({"SHA_256"})
+    public HashAlgorithm algorithm;
+
+    @Param({"16", "64"})
+    public int length;
+
+    private byte[] bytes;
+    private String string;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(HashHelperBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build()
+        ).run();
+    }
+
+    @Setup
+    public void createInput() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+
+        this.string = builder.toString();
+        this.bytes = this.string.getBytes();
+    }
+
+    @Benchmark
+    public Optional<byte[]> newByteHash() throws NoSuchAlgorithmException {
+        return new ByteHash(algorithm).add(this.bytes).finalizeHash().getResult();
+    }
+
+    @Benchmark
+    public Optional<byte[]> pooledByteHash() {
+        return ByteHash.hash(algorithm, this.bytes);
+    }
+
+    @Benchmark
+    public Optional<byte[]> newStringHash() throws NoSuchAlgorithmException {
+        return new StringHash(algorithm).add(this.string).finalizeHash().getResult();
+    }
+
+    @Benchmark
+    public Optional<byte[]> pooledStringHash() {
+        return StringHash.hash(algorithm, this.string);
+    }
+}
@@ -0,0 +1,91 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Time to write a file and get its digest, hashing while writing against reading the file back with FileHash.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HashingOutputStreamBenchmark {
+
+    @Param({"16777216"})
+    public int size;
+
+    @Param({"SHA_256"})
+    public HashAlgorithm algorithm;
+
+    private byte[] content;
+    private File file;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HashingOutputStreamBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void createContent() throws IOException {
+        this.content = new byte[size];
+        new Random(size).nextBytes(this.content);
+        this.file = File.createTempFile("hashing-output-stream-benchmark", ".bin");
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() {
+        this.file.delete();
+    }
+
+    private void write(OutputStream output) throws IOException {
+        try (OutputStream stream = output) {
+            for (int i = 0; i < this.content.length; i += 8192) {
+                stream.write(this.content, i, Math.min(8192, this.content.length - i));
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<byte[]> writeThenFileHash() throws IOException {
+        write(new FileOutputStream(this.file));
+        return FileHash.hash(algorithm, this.file);
+    }
+
+    @Benchmark
+    public Optional<byte[]> hashingOutputStream() throws IOException, NoSuchAlgorithmException {
+        HashingOutputStream stream = new HashingOutputStream(new FileOutputStream(this.file), new ByteHash(algorithm));
+        write(stream);
+        return stream.getHash().finalizeHash().getResult();
+    }
+}
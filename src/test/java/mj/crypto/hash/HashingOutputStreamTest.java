@@ -0,0 +1,138 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class HashingOutputStreamTest {
+
+    private static final byte[] content = new byte[100_000];
+
+    static {
+        new Random(23).nextBytes(content);
+    }
+
+    @Parameterized.Parameter
+    public HashAlgorithm algorithm;
+
+    @Parameterized.Parameters
+    public static HashAlgorithm[] data() {
+        return HashAlgorithm.values();
+    }
+
+    static WritableByteChannel trickle(OutputStream output) {
+        WritableByteChannel channel = Channels.newChannel(output);
+        return new WritableByteChannel() {
+            private final Random random = new Random(29);
+
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                ByteBuffer part = src.duplicate();
+                part.limit(part.position() + Math.min(src.remaining(), this.random.nextInt(1000)));
+                int written = channel.write(part);
+                src.position(part.position());
+                return written;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return channel.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+
+    @Test
+    public void streamWithInvalidArgumentsTest() {
+        Class<? extends Exception> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new HashingOutputStream(null, new ByteHash(algorithm)));
+        Assert.assertThrows(clz, () -> new HashingOutputStream(new ByteArrayOutputStream(), null));
+        Assert.assertThrows(clz, () -> new HashingWritableByteChannel(null, new ByteHash(algorithm)));
+    }
+
+    @Test
+    public void writeWithoutPassingValueTest() throws NoSuchAlgorithmException, IOException {
+        try (HashingOutputStream stream = new HashingOutputStream(new ByteArrayOutputStream(), new ByteHash(algorithm))) {
+            stream.write(new byte[0]);
+            stream.write(content, 10, 0);
+            Assert.assertEquals(0, stream.getCount());
+            Assert.assertFalse(stream.getHash().finalizeHash().getResult().isPresent());
+        }
+
+        try (HashingWritableByteChannel channel = new HashingWritableByteChannel(Channels.newChannel(new ByteArrayOutputStream()), new ByteHash(algorithm))) {
+            Assert.assertEquals(0, channel.write(ByteBuffer.allocate(0)));
+            Assert.assertFalse(channel.getHash().finalizeHash().getResult().isPresent());
+        }
+    }
+
+    @Test
+    public void teesOnlyAcceptByteHashTest() throws NoSuchMethodException {
+        // Stream hashes only finalize the digests passed to offer(), so bytes written into them would be lost
+        Assert.assertEquals(ByteHash.class, HashingOutputStream.class.getMethod("getHash").getReturnType());
+        Assert.assertEquals(ByteHash.class, HashingWritableByteChannel.class.getMethod("getHash").getReturnType());
+        Assert.assertEquals(1, HashingOutputStream.class.getConstructors().length);
+        Assert.assertEquals(ByteHash.class, HashingOutputStream.class.getConstructors()[0].getParameterTypes()[1]);
+        Assert.assertEquals(1, HashingWritableByteChannel.class.getConstructors().length);
+        Assert.assertEquals(ByteHash.class, HashingWritableByteChannel.class.getConstructors()[0].getParameterTypes()[1]);
+    }
+
+    @Test
+    public void writeStreamAndCheckResultTest() throws NoSuchAlgorithmException, IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (HashingOutputStream stream = new HashingOutputStream(output, new ByteHash(algorithm))) {
+            stream.write(content[0]);
+            for (int i = 1; i < content.length; i += 7777) {
+                stream.write(content, i, Math.min(7777, content.length - i));
+            }
+
+            Assert.assertEquals(content.length, stream.getCount());
+            Assert.assertArrayEquals(ByteHash.hash(algorithm, content).get(), stream.getHash().finalizeHash().getResult().get());
+        }
+
+        Assert.assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void writeChannelAndCheckResultTest() throws NoSuchAlgorithmException, IOException {
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(content), ByteBuffer.allocateDirect(content.length).put(content)}) {
+            buffer.clear();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (HashingWritableByteChannel channel = new HashingWritableByteChannel(trickle(output), new ByteHash(algorithm))) {
+                while (buffer.hasRemaining()) {
+                    int position = buffer.position();
+                    int written = channel.write(buffer);
+                    Assert.assertEquals(buffer.position() - position, written);
+                    Assert.assertEquals(content.length, buffer.limit());
+                }
+
+                Assert.assertEquals(content.length, channel.getCount());
+                Assert.assertArrayEquals(ByteHash.hash(algorithm, content).get(), channel.getHash().finalizeHash().getResult().get());
+            }
+
+            Assert.assertArrayEquals(content, output.toByteArray());
+        }
+    }
+}
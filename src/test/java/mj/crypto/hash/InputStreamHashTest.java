@@ -24,6 +24,14 @@ import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @Project cryptography
@@ -197,4 +205,179 @@ public class InputStreamHashTest {
 
         Assert.assertFalse(hash.clear().finalizeHash().getResult().isPresent());
     }
+
+    @Test
+    public void hashAsyncAndCheckResultTest() throws InterruptedException, ExecutionException, IOException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (File file : files) {
+                Assert.assertArrayEquals(
+                        InputStreamHash.hash(algorithm, new FileInputStream(file)).get(),
+                        InputStreamHash.hashAsync(algorithm, new FileInputStream(file), executor).get()
+                );
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void hashAsyncAndCancelWhileReadingTest() throws InterruptedException {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        InputStream input = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                return read(new byte[1], 0, 1) < 0 ? -1 : 0;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                reading.countDown();
+                try {
+                    closed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                throw new IOException("Stream closed");
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CompletableFuture<byte[]> future = InputStreamHash.hashAsync(algorithm, input, executor);
+        reading.await();
+
+        Assert.assertTrue(future.cancel(true));
+        executor.shutdown();
+
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertTrue(future.isCancelled());
+        Assert.assertEquals(0, closed.getCount());
+    }
+
+    @Test
+    public void hashAsyncRejectedOrFailingWithErrorTest() throws InterruptedException {
+        CountDownLatch closed = new CountDownLatch(1);
+        InputStream input = new ByteArrayInputStream(new byte[10]) {
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        CompletableFuture<byte[]> rejected = InputStreamHash.hashAsync(algorithm, input, executor);
+        ExecutionException e = Assert.assertThrows(ExecutionException.class, rejected::get);
+        Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        Assert.assertEquals(0, closed.getCount());
+
+        InputStream erroring = new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("Broken stream");
+            }
+        };
+
+        CompletableFuture<byte[]> failed = InputStreamHash.hashAsync(algorithm, erroring, Runnable::run);
+        e = Assert.assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+        Assert.assertTrue(e.getCause() instanceof AssertionError);
+    }
+
+    @Test
+    public void hashWithReadAheadAndCheckResultTest() throws NoSuchAlgorithmException {
+        byte[] content = new byte[100_000];
+        new Random(17).nextBytes(content);
+
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+        byte[] expected = digest.digest(content);
+
+        for (int bufferSize : new int[]{7, 1024, 1 << 20}) {
+            for (int readAhead : new int[]{2, 4}) {
+                InputStreamHash hash = new InputStreamHash(algorithm, bufferSize, readAhead);
+                Assert.assertEquals(readAhead, hash.getReadAhead());
+                Assert.assertEquals(bufferSize, hash.getBufferSize());
+                Assert.assertArrayEquals(expected, hash.add(bursty(content)).finalizeHash().getResult().get());
+                Assert.assertArrayEquals(
+                        digest.digest(new byte[0]),
+                        hash.add(new ByteArrayInputStream(new byte[0])).finalizeHash().getResult().get()
+                );
+            }
+        }
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> new InputStreamHash(algorithm, 1024, 1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new InputStreamHash(algorithm, 1024, -1));
+    }
+
+    @Test
+    public void hashWithReadAheadAndFailingStreamTest() throws NoSuchAlgorithmException {
+        InputStream failing = new InputStream() {
+            private int remaining = 3000;
+
+            @Override
+            public int read() throws IOException {
+                if (--this.remaining < 0) {
+                    throw new IOException("Connection reset");
+                }
+
+                return this.remaining & 0xFF;
+            }
+        };
+
+        InputStreamHash hash = new InputStreamHash(algorithm, 256, 2);
+        Assert.assertFalse(hash.add(failing).finalizeHash().getResult().isPresent());
+        Assert.assertArrayEquals(
+                InputStreamHash.hash(algorithm, new ByteArrayInputStream(new byte[3])).get(),
+                hash.add(new ByteArrayInputStream(new byte[3])).finalizeHash().getResult().get()
+        );
+    }
+
+    @Test
+    public void hashWithReadAheadAndStreamThrowingErrorTest() throws NoSuchAlgorithmException {
+        InputStream failing = new InputStream() {
+            private int remaining = 3000;
+
+            @Override
+            public int read() {
+                if (--this.remaining < 0) {
+                    throw new AssertionError("Corrupt block");
+                }
+
+                return this.remaining & 0xFF;
+            }
+        };
+
+        InputStreamHash hash = new InputStreamHash(algorithm, 256, 2);
+        Assert.assertFalse(hash.add(failing).finalizeHash().getResult().isPresent());
+        Assert.assertArrayEquals(
+                InputStreamHash.hash(algorithm, new ByteArrayInputStream(new byte[3])).get(),
+                hash.add(new ByteArrayInputStream(new byte[3])).finalizeHash().getResult().get()
+        );
+    }
+
+    private static InputStream bursty(byte[] content) {
+        return new ByteArrayInputStream(content) {
+            private final Random random = new Random(content.length);
+
+            @Override
+            public synchronized int read(byte[] bytes, int offset, int length) {
+                if (this.random.nextInt(64) == 0) {
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                return super.read(bytes, offset, Math.min(length, 1 + this.random.nextInt(4096)));
+            }
+        };
+    }
 }
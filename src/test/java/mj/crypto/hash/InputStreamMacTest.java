@@ -2,6 +2,7 @@ package mj.crypto.hash;
 
 import mj.crypto.enums.KeyAlgorithm;
 import mj.crypto.enums.MacAlgorithm;
+import mj.crypto.enums.StreamMode;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -13,9 +14,13 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.crypto.KeyGenerator;
 import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -23,11 +28,14 @@ import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Field;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 /**
  * @Project cryptography
@@ -124,6 +132,21 @@ public class InputStreamMacTest {
         Assert.assertTrue(InputStreamMac.macTimes(algorithm, key, new FileInputStream(file), 2).isPresent());
     }
 
+    @Test
+    public void hashInputStreamContainingNegativeBytesAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        byte[] bytes = {0x01, (byte) 0xFF, 0x02, (byte) 0x80, (byte) 0xFF};
+
+        Mac mac = Mac.getInstance(algorithm.getValue());
+        mac.init(key);
+        byte[] expected = mac.doFinal(bytes);
+
+        Assert.assertArrayEquals(expected, InputStreamMac.mac(algorithm, key, new ByteArrayInputStream(bytes)).get());
+        Assert.assertArrayEquals(
+                expected,
+                new InputStreamMac(algorithm, key, 2).add(new ByteArrayInputStream(bytes)).finalizeMac().getResult().get()
+        );
+    }
+
     @Test
     public void hashInputStreamAndCheckResultTest() throws NoSuchAlgorithmException, IOException, InvalidKeyException {
         File file = files.get(1);
@@ -203,6 +226,73 @@ public class InputStreamMacTest {
         streamMac.finalizeMac(times).getResult().ifPresent(result -> Assert.assertArrayEquals(result, mac.doFinal()));
     }
 
+    @Test
+    public void hashListOfInputStreamsIntoOutputBufferAndCheckResultTest() throws NoSuchAlgorithmException, IOException, InvalidKeyException, ShortBufferException {
+        for (int times : new int[]{1, 3}) {
+            InputStreamMac mac = new InputStreamMac(algorithm, key);
+            for (File file : files) {
+                mac.add(new FileInputStream(file));
+            }
+
+            byte[] expected = mac.finalizeMac(times).getResult().get();
+
+            for (File file : files) {
+                mac.add(new FileInputStream(file));
+            }
+
+            byte[] output = new byte[expected.length + 1];
+            Assert.assertEquals(expected.length, mac.finalizeMac(output, 1, times));
+            Assert.assertArrayEquals(expected, Arrays.copyOfRange(output, 1, output.length));
+            Assert.assertEquals(0, mac.finalizeMac(output, 1, times));
+        }
+    }
+
+    @Test
+    public void hashListOfInputStreamsInRetainModeAndCheckResultTest() throws NoSuchAlgorithmException, IOException, InvalidKeyException {
+        for (int times : new int[]{1, 3}) {
+            InputStreamMac fold = new InputStreamMac(algorithm, key);
+            InputStreamMac retain = new InputStreamMac(algorithm, key);
+            retain.setMode(StreamMode.RETAIN);
+
+            for (File file : files) {
+                fold.add(new FileInputStream(file));
+                retain.add(new FileInputStream(file));
+            }
+
+            Assert.assertEquals(files.size(), retain.size());
+            for (int i = 0; i < files.size(); i++) {
+                Assert.assertArrayEquals(InputStreamMac.mac(algorithm, key, new FileInputStream(files.get(i))).get(), retain.getMac(i));
+            }
+
+            Assert.assertThrows(IllegalStateException.class, () -> fold.getMac(0));
+            Assert.assertArrayEquals(fold.finalizeMac(times).getResult().get(), retain.finalizeMac(times).getResult().get());
+            Assert.assertEquals(0, retain.size());
+        }
+    }
+
+    @Test
+    public void combinerCreatedOnlyForSeveralInputsTest() throws NoSuchAlgorithmException, InvalidKeyException, ReflectiveOperationException {
+        Field combiner = AbstractStreamMac.class.getDeclaredField("combiner");
+        combiner.setAccessible(true);
+
+        InputStreamMac streamMac = new InputStreamMac(algorithm, key);
+        Assert.assertNull(combiner.get(streamMac));
+
+        streamMac.add(new ByteArrayInputStream(new byte[3])).finalizeMac();
+        Assert.assertNull(combiner.get(streamMac));
+
+        Mac mac = Mac.getInstance(algorithm.getValue());
+        mac.init(key);
+        byte[] first = mac.doFinal(new byte[3]);
+        byte[] second = mac.doFinal(new byte[4]);
+        mac.update(first);
+        mac.update(second);
+
+        streamMac.add(new ByteArrayInputStream(new byte[3])).add(new ByteArrayInputStream(new byte[4]));
+        Assert.assertNotNull(combiner.get(streamMac));
+        Assert.assertArrayEquals(mac.doFinal(), streamMac.finalizeMac().getResult().get());
+    }
+
     @Test
     public void hashListOfFilesAndResetTheDigestAndCheckTheResultTest() throws NoSuchAlgorithmException, IOException, InvalidKeyException {
         InputStreamMac mac = new InputStreamMac(algorithm, key);
@@ -213,4 +303,71 @@ public class InputStreamMacTest {
 
         Assert.assertFalse(mac.clear().finalizeMac().getResult().isPresent());
     }
+
+    @Test
+    public void macAsyncAndCheckResultTest() throws InterruptedException, ExecutionException, IOException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (File file : files) {
+                Assert.assertArrayEquals(
+                        InputStreamMac.mac(algorithm, key, new FileInputStream(file)).get(),
+                        InputStreamMac.macAsync(algorithm, key, new FileInputStream(file), executor).get()
+                );
+            }
+
+            InputStream failing = new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("Connection reset");
+                }
+            };
+
+            ExecutionException e = Assert.assertThrows(
+                    ExecutionException.class, () -> InputStreamMac.macAsync(algorithm, key, failing, executor).get()
+            );
+            Assert.assertEquals("Connection reset", e.getCause().getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void macWithReadAheadAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        byte[] content = new byte[100_000];
+        new Random(17).nextBytes(content);
+
+        Mac mac = Mac.getInstance(algorithm.getValue());
+        mac.init(key);
+        byte[] expected = mac.doFinal(content);
+
+        for (int bufferSize : new int[]{7, 1024}) {
+            for (int readAhead : new int[]{2, 4}) {
+                InputStreamMac streamMac = new InputStreamMac(algorithm, key, bufferSize, readAhead);
+                Assert.assertEquals(readAhead, streamMac.getReadAhead());
+                Assert.assertEquals(bufferSize, streamMac.getBufferSize());
+                Assert.assertArrayEquals(
+                        expected, streamMac.add(new ByteArrayInputStream(content)).finalizeMac().getResult().get()
+                );
+            }
+        }
+
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        Assert.assertFalse(new InputStreamMac(algorithm, key, 1024, 2).add(failing).finalizeMac().getResult().isPresent());
+
+        InputStream erroring = new InputStream() {
+            @Override
+            public int read() {
+                throw new StackOverflowError();
+            }
+        };
+
+        Assert.assertFalse(new InputStreamMac(algorithm, key, 1024, 2).add(erroring).finalizeMac().getResult().isPresent());
+        Assert.assertThrows(IllegalArgumentException.class, () -> new InputStreamMac(algorithm, key, 1024, 1));
+    }
 }
@@ -0,0 +1,104 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.MacAlgorithm;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class MacOutputStreamTest {
+
+    private static final byte[] content = new byte[100_000];
+    private static final SecretKey key = new SecretKeySpec("This is a key for the MAC".getBytes(), "RAW");
+
+    static {
+        new Random(31).nextBytes(content);
+    }
+
+    @Parameterized.Parameter
+    public MacAlgorithm algorithm;
+
+    @Parameterized.Parameters
+    public static MacAlgorithm[] data() {
+        return MacAlgorithm.values();
+    }
+
+    @Test
+    public void streamWithInvalidArgumentsTest() {
+        Class<? extends Exception> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new MacOutputStream(null, new ByteMac(algorithm, key)));
+        Assert.assertThrows(clz, () -> new MacOutputStream(new ByteArrayOutputStream(), null));
+        Assert.assertThrows(clz, () -> new MacWritableByteChannel(null, new ByteMac(algorithm, key)));
+    }
+
+    @Test
+    public void writeWithoutPassingValueTest() throws NoSuchAlgorithmException, InvalidKeyException, IOException {
+        try (MacOutputStream stream = new MacOutputStream(new ByteArrayOutputStream(), new ByteMac(algorithm, key))) {
+            stream.write(new byte[0]);
+            stream.write(content, 10, 0);
+            Assert.assertEquals(0, stream.getCount());
+            Assert.assertFalse(stream.getMac().finalizeMac().getResult().isPresent());
+        }
+    }
+
+    @Test
+    public void teesOnlyAcceptByteMacTest() {
+        Assert.assertEquals(1, MacOutputStream.class.getConstructors().length);
+        Assert.assertEquals(ByteMac.class, MacOutputStream.class.getConstructors()[0].getParameterTypes()[1]);
+        Assert.assertEquals(1, MacWritableByteChannel.class.getConstructors().length);
+        Assert.assertEquals(ByteMac.class, MacWritableByteChannel.class.getConstructors()[0].getParameterTypes()[1]);
+    }
+
+    @Test
+    public void writeStreamAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException, IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (MacOutputStream stream = new MacOutputStream(output, new ByteMac(algorithm, key))) {
+            Assert.assertFalse(stream.getMac().finalizeMac().getResult().isPresent());
+
+            stream.write(content[0]);
+            for (int i = 1; i < content.length; i += 7777) {
+                stream.write(content, i, Math.min(7777, content.length - i));
+            }
+
+            Assert.assertEquals(content.length, stream.getCount());
+            Assert.assertArrayEquals(ByteMac.mac(algorithm, key, content).get(), stream.getMac().finalizeMac().getResult().get());
+        }
+
+        Assert.assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void writeChannelAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException, IOException {
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(content), ByteBuffer.allocateDirect(content.length).put(content)}) {
+            buffer.clear();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (MacWritableByteChannel channel = new MacWritableByteChannel(HashingOutputStreamTest.trickle(output), new ByteMac(algorithm, key))) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+
+                Assert.assertEquals(content.length, channel.getCount());
+                Assert.assertArrayEquals(ByteMac.mac(algorithm, key, content).get(), channel.getMac().finalizeMac().getResult().get());
+            }
+
+            Assert.assertArrayEquals(content, output.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.KeyAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Short message MAC throughput of a MacTemplate against initializing a new ByteMac for every message.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MacTemplateBenchmark {
+
+    @Param({"HMAC_SHA1", "HMAC_SHA512"})
+    public MacAlgorithm algorithm;
+
+    @Param({"32"})
+    public int length;
+
+    private SecretKey key;
+    private MacTemplate template;
+    private byte[] message;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MacTemplateBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void createTemplate() throws NoSuchAlgorithmException, InvalidKeyException {
+        this.key = mj.crypto.key.KeyGenerator.generate(KeyAlgorithm.HMAC_SHA256);
+        this.template = new MacTemplate(algorithm, this.key);
+        this.message = new byte[length];
+        new Random(length).nextBytes(this.message);
+    }
+
+    @Benchmark
+    public Optional<byte[]> newByteMac() {
+        return ByteMac.mac(algorithm, this.key, this.message);
+    }
+
+    @Benchmark
+    public Optional<byte[]> template() {
+        return this.template.mac(this.message);
+    }
+
+    @Benchmark
+    public Optional<byte[]> cachedTemplate() {
+        return MacTemplate.mac(algorithm, this.key, this.message);
+    }
+}
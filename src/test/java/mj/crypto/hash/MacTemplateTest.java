@@ -0,0 +1,119 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.KeyAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.security.InvalidKeyException;
+import java.lang.reflect.Field;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class MacTemplateTest {
+
+    private static SecretKey key;
+    private final List<byte[]> bytes = Arrays.asList(
+            "".getBytes(),
+            "This sentence will be mac".getBytes(),
+            "This is my sample mac".getBytes(),
+            "This is a unit testing class".getBytes()
+    );
+    @Parameter
+    public MacAlgorithm algorithm;
+
+    @Parameters
+    public static MacAlgorithm[] data() {
+        return MacAlgorithm.values();
+    }
+
+    @BeforeClass
+    public static void generateKey() throws NoSuchAlgorithmException {
+        key = KeyGenerator.getInstance(KeyAlgorithm.DES.getValue()).generateKey();
+    }
+
+    @Test
+    public void macAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        MacTemplate template = new MacTemplate(algorithm, key);
+
+        for (byte[] input : bytes) {
+            byte[] expected = ByteMac.mac(algorithm, key, input).get();
+            Assert.assertArrayEquals(expected, template.mac(input).get());
+            Assert.assertArrayEquals(expected, template.mac(input).get());
+            Assert.assertArrayEquals(expected, template.mac(input, 0, input.length).get());
+            Assert.assertArrayEquals(expected, template.newByteMac().add(input).finalizeMac().getResult().get());
+            Assert.assertArrayEquals(expected, MacTemplate.mac(algorithm, key, input).get());
+        }
+    }
+
+    @Test
+    public void macStringAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        MacTemplate template = new MacTemplate(algorithm, key);
+
+        String input = "This is a unit testing class";
+        Assert.assertArrayEquals(
+                StringMac.mac(algorithm, key, input).get(),
+                template.newStringMac().add(input).finalizeMac().getResult().get()
+        );
+    }
+
+    @Test
+    public void macNullByteArrayTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        MacTemplate template = new MacTemplate(algorithm, key);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> template.mac(null));
+        Assert.assertArrayEquals(ByteMac.mac(algorithm, key, bytes.get(1)).get(), template.mac(bytes.get(1)).get());
+    }
+
+    @Test
+    public void cacheAndEvictTemplateTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        MacTemplate template = MacTemplate.of(algorithm, key);
+        Assert.assertSame(template, MacTemplate.of(algorithm, key));
+
+        MacTemplate.evict(algorithm, key);
+        MacTemplate evicted = MacTemplate.of(algorithm, key);
+        Assert.assertNotSame(template, evicted);
+
+        MacTemplate.evict(key);
+        Assert.assertNotSame(evicted, MacTemplate.of(algorithm, key));
+    }
+
+    @Test
+    public void macBatchWithoutCachingTemplateTest() throws Exception {
+        Field field = MacTemplate.class.getDeclaredField("TEMPLATES");
+        field.setAccessible(true);
+        Map<?, ?> templates = (Map<?, ?>) field.get(null);
+        byte[][] inputs = bytes.toArray(new byte[0][]);
+
+        MacTemplate.evictAll();
+        byte[] expected = ByteMac.macBatch(algorithm, key, inputs).get();
+        Assert.assertTrue(templates.isEmpty());
+
+        Assert.assertArrayEquals(expected, MacTemplate.of(algorithm, key).macBatch(inputs).get());
+        byte[] input = bytes.get(2);
+        int[] offsets = {0, 5, 0};
+        int[] limits = {0, 7, input.length};
+        Assert.assertArrayEquals(
+                ByteMac.macBatch(algorithm, key, input, offsets, limits).get(),
+                MacTemplate.of(algorithm, key).macBatch(input, offsets, limits).get()
+        );
+        Assert.assertEquals(1, templates.size());
+        MacTemplate.evictAll();
+    }
+}
@@ -0,0 +1,93 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Time to compute MD5, SHA-1 and SHA-256 of one file with a FileHash per algorithm, which reads the file three times,
+ * against a MultiHash that reads it once and feeds every chunk to the three digests.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MultiHashBenchmark {
+
+    private static final Set<HashAlgorithm> ALGORITHMS = EnumSet.of(HashAlgorithm.MD5, HashAlgorithm.SHA_1, HashAlgorithm.SHA_256);
+
+    @Param({"104857600"})
+    public long size;
+
+    private File file;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MultiHashBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        this.file = File.createTempFile("multi-hash-benchmark", ".bin");
+
+        byte[] chunk = new byte[1 << 20];
+        new Random(size).nextBytes(chunk);
+
+        try (RandomAccessFile output = new RandomAccessFile(this.file, "rw")) {
+            for (long written = 0; written < size; written += chunk.length) {
+                output.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() {
+        this.file.delete();
+    }
+
+    @Benchmark
+    public Map<HashAlgorithm, byte[]> fileHashPerAlgorithm() throws NoSuchAlgorithmException {
+        Map<HashAlgorithm, byte[]> hashes = new EnumMap<>(HashAlgorithm.class);
+        for (HashAlgorithm algorithm : ALGORITHMS) {
+            hashes.put(algorithm, new FileHash(algorithm).add(this.file).finalizeHash().getResult().get());
+        }
+
+        return hashes;
+    }
+
+    @Benchmark
+    public Map<HashAlgorithm, byte[]> multiHash() throws NoSuchAlgorithmException {
+        return new MultiHash(ALGORITHMS).add(this.file).finalizeAll().getHashes();
+    }
+}
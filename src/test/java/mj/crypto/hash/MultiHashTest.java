@@ -0,0 +1,187 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+import mj.crypto.enums.ReadMode;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class MultiHashTest {
+
+    @ClassRule
+    public static final TemporaryFolder tmpDir = new TemporaryFolder();
+    private static final List<byte[]> contents = new ArrayList<>();
+    private static final List<File> files = new ArrayList<>();
+    private static final Set<HashAlgorithm> algorithms = EnumSet.of(HashAlgorithm.MD5, HashAlgorithm.SHA_1, HashAlgorithm.SHA_256);
+    private static final int BUFFER_SIZE = 128 * 1024;
+
+    @Parameterized.Parameter
+    public ReadMode mode;
+
+    private final SecretKey key = new SecretKeySpec("multi-hash-key".getBytes(), "HmacSHA256");
+
+    @Parameterized.Parameters
+    public static ReadMode[] data() {
+        return ReadMode.values();
+    }
+
+    @BeforeClass
+    public static void initFiles() throws IOException {
+        Random random = new Random(11);
+        for (int size : new int[]{0, 1000, BUFFER_SIZE * 3 + 17}) {
+            byte[] content = new byte[size];
+            random.nextBytes(content);
+
+            File file = tmpDir.newFile(String.format("TestFile%d.bin", size));
+            try (FileOutputStream stream = new FileOutputStream(file)) {
+                stream.write(content);
+            }
+
+            contents.add(content);
+            files.add(file);
+        }
+    }
+
+    @AfterClass
+    public static void destroyFiles() {
+        tmpDir.delete();
+    }
+
+    private static Map<HashAlgorithm, byte[]> expected(byte[] content) throws NoSuchAlgorithmException {
+        Map<HashAlgorithm, byte[]> hashes = new EnumMap<>(HashAlgorithm.class);
+        for (HashAlgorithm algorithm : algorithms) {
+            hashes.put(algorithm, MessageDigest.getInstance(algorithm.getValue()).digest(content));
+        }
+
+        return hashes;
+    }
+
+    private byte[] expectedMac(byte[] content) throws NoSuchAlgorithmException, InvalidKeyException {
+        Mac mac = Mac.getInstance(MacAlgorithm.HMAC_SHA256.getValue());
+        mac.init(this.key);
+        return mac.doFinal(content);
+    }
+
+    private static void assertHashes(Map<HashAlgorithm, byte[]> expected, Map<HashAlgorithm, byte[]> actual) {
+        Assert.assertEquals(expected.keySet(), actual.keySet());
+        for (HashAlgorithm algorithm : expected.keySet()) {
+            Assert.assertArrayEquals(algorithm.name(), expected.get(algorithm), actual.get(algorithm));
+        }
+    }
+
+    @Test
+    public void hashWithInvalidArgumentsTest() {
+        Class<? extends Exception> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new MultiHash(null));
+        Assert.assertThrows(clz, () -> new MultiHash(EnumSet.noneOf(HashAlgorithm.class)));
+        Assert.assertThrows(clz, () -> new MultiHash(algorithms, null));
+        Assert.assertThrows(clz, () -> new MultiHash(algorithms).add((File) null));
+        Assert.assertThrows(clz, () -> new MultiHash(algorithms).add((InputStream) null));
+        Assert.assertThrows(clz, () -> new MultiHash(algorithms).add((byte[]) null));
+    }
+
+    @Test
+    public void hashWithoutPassingValueTest() throws NoSuchAlgorithmException {
+        MultiHash.Digests digests = new MultiHash(algorithms).finalizeAll();
+        Assert.assertTrue(digests.getHashes().isEmpty());
+        Assert.assertTrue(digests.getMacs().isEmpty());
+    }
+
+    @Test
+    public void hashFileAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Map<MacAlgorithm, SecretKey> macs = Collections.singletonMap(MacAlgorithm.HMAC_SHA256, this.key);
+            MultiHash hash = new MultiHash(algorithms, macs, mode, BUFFER_SIZE, pool);
+            Assert.assertEquals(algorithms, hash.getHashAlgorithms());
+            Assert.assertEquals(macs.keySet(), hash.getMacAlgorithms());
+
+            for (int i = 0; i < files.size(); i++) {
+                MultiHash.Digests digests = hash.add(files.get(i)).finalizeAll();
+                assertHashes(expected(contents.get(i)), digests.getHashes());
+                Assert.assertArrayEquals(expectedMac(contents.get(i)), digests.getMacs().get(MacAlgorithm.HMAC_SHA256));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void hashInputStreamAndBytesAndCheckResultTest() throws NoSuchAlgorithmException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            MultiHash hash = new MultiHash(algorithms, mode, BUFFER_SIZE, pool);
+            for (byte[] content : contents) {
+                assertHashes(expected(content), hash.add(new ByteArrayInputStream(content)).finalizeAll().getHashes());
+                assertHashes(expected(content), hash.add(content).finalizeAll().getHashes());
+            }
+
+            byte[] content = contents.get(contents.size() - 1);
+            int split = content.length / 3;
+            hash.add(content, 0, split).add(new ByteArrayInputStream(content, split, content.length - split));
+            assertHashes(expected(content), hash.finalizeAll().getHashes());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void hashWithStaticHelpersTest() throws NoSuchAlgorithmException, IOException {
+        HashAlgorithm[] values = algorithms.toArray(new HashAlgorithm[0]);
+        for (int i = 0; i < files.size(); i++) {
+            Map<HashAlgorithm, byte[]> expected = expected(contents.get(i));
+            assertHashes(expected, MultiHash.hash(files.get(i), values));
+            assertHashes(expected, MultiHash.hash(new FileInputStream(files.get(i)), values));
+        }
+    }
+
+    @Test
+    public void hashFailingInputStreamTest() throws NoSuchAlgorithmException {
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        MultiHash hash = new MultiHash(algorithms);
+        Assert.assertTrue(hash.add(new byte[3]).add(failing).finalizeAll().getHashes().isEmpty());
+        assertHashes(expected(new byte[3]), hash.add(new byte[3]).finalizeAll().getHashes());
+        Assert.assertTrue(hash.add(new File(tmpDir.getRoot(), "missing.bin")).finalizeAll().getHashes().isEmpty());
+    }
+}
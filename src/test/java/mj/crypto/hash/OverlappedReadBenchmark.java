@@ -0,0 +1,199 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.ReadMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Time to hash a local file through an AsynchronousFileChannel whose reads complete only after a simulated latency,
+ * as on a network-attached volume. A ring of one buffer is the synchronous chunked loop, a larger ring keeps the next
+ * reads in flight while the current chunk is digested.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OverlappedReadBenchmark {
+
+    @Param({"67108864"})
+    public long size;
+
+    @Param({"0", "500"})
+    public long latencyMicros;
+
+    @Param({"1", "4"})
+    public int ringSize;
+
+    @Param({"SHA_256"})
+    public HashAlgorithm algorithm;
+
+    private File file;
+    private ScheduledExecutorService scheduler;
+    private ChannelReader reader;
+    private MessageDigest digest;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(OverlappedReadBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException, NoSuchAlgorithmException {
+        this.file = File.createTempFile("overlapped-read-benchmark", ".bin");
+
+        byte[] chunk = new byte[1 << 20];
+        new Random(size).nextBytes(chunk);
+
+        try (RandomAccessFile output = new RandomAccessFile(this.file, "rw")) {
+            for (long written = 0; written < size; written += chunk.length) {
+                output.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+        }
+
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(ringSize, 1));
+        this.reader = new ChannelReader(ReadMode.OVERLAPPED, BufferPool.DEFAULT_BUFFER_SIZE, ringSize);
+        this.digest = MessageDigest.getInstance(algorithm.getValue());
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() {
+        this.scheduler.shutdown();
+        this.file.delete();
+    }
+
+    @Benchmark
+    public byte[] hash() throws IOException {
+        try (AsynchronousFileChannel channel = new DelayedFileChannel(
+                AsynchronousFileChannel.open(this.file.toPath(), StandardOpenOption.READ), this.scheduler, latencyMicros
+        )) {
+            this.reader.read(channel, this.digest::update);
+        }
+
+        return this.digest.digest();
+    }
+
+    private static final class DelayedFileChannel extends AsynchronousFileChannel {
+
+        private final AsynchronousFileChannel channel;
+        private final ScheduledExecutorService scheduler;
+        private final long latencyMicros;
+
+        private DelayedFileChannel(AsynchronousFileChannel channel, ScheduledExecutorService scheduler, long latencyMicros) {
+            this.channel = channel;
+            this.scheduler = scheduler;
+            this.latencyMicros = latencyMicros;
+        }
+
+        @Override
+        public Future<Integer> read(ByteBuffer dst, long position) {
+            if (this.latencyMicros == 0) {
+                return this.channel.read(dst, position);
+            }
+
+            CompletableFuture<Integer> read = new CompletableFuture<>();
+            this.scheduler.schedule(() -> {
+                try {
+                    read.complete(this.channel.read(dst, position).get());
+                } catch (InterruptedException | ExecutionException e) {
+                    read.completeExceptionally(e.getCause());
+                }
+            }, this.latencyMicros, TimeUnit.MICROSECONDS);
+
+            return read;
+        }
+
+        @Override
+        public <A> void read(ByteBuffer dst, long position, A attachment, CompletionHandler<Integer, ? super A> handler) {
+            this.channel.read(dst, position, attachment, handler);
+        }
+
+        @Override
+        public long size() throws IOException {
+            return this.channel.size();
+        }
+
+        @Override
+        public AsynchronousFileChannel truncate(long size) throws IOException {
+            return this.channel.truncate(size);
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            this.channel.force(metaData);
+        }
+
+        @Override
+        public <A> void lock(long position, long size, boolean shared, A attachment, CompletionHandler<FileLock, ? super A> handler) {
+            this.channel.lock(position, size, shared, attachment, handler);
+        }
+
+        @Override
+        public Future<FileLock> lock(long position, long size, boolean shared) {
+            return this.channel.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return this.channel.tryLock(position, size, shared);
+        }
+
+        @Override
+        public <A> void write(ByteBuffer src, long position, A attachment, CompletionHandler<Integer, ? super A> handler) {
+            this.channel.write(src, position, attachment, handler);
+        }
+
+        @Override
+        public Future<Integer> write(ByteBuffer src, long position) {
+            return this.channel.write(src, position);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return this.channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+        }
+    }
+}
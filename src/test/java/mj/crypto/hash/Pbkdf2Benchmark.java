@@ -0,0 +1,97 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.MacAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Derivations per second of Pbkdf2 against SecretKeyFactory PBKDF2WithHmacSHA256, for one key and for a batch of
+ * 64 keys spread over the common pool.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Pbkdf2Benchmark {
+
+    private static final int BATCH_SIZE = 64;
+
+    @Param({"1000"})
+    public int iterations;
+
+    @Param({"32", "96"})
+    public int length;
+
+    private Pbkdf2 pbkdf2;
+    private SecretKeyFactory factory;
+    private char[][] passwords;
+    private byte[][] salts;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(Pbkdf2Benchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void createPasswords() throws NoSuchAlgorithmException {
+        this.pbkdf2 = new Pbkdf2(MacAlgorithm.HMAC_SHA256, iterations, length);
+        this.factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+
+        this.passwords = new char[BATCH_SIZE][];
+        this.salts = new byte[BATCH_SIZE][];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.passwords[i] = String.format("password-%d", i).toCharArray();
+            this.salts[i] = String.format("salt-%d", i).getBytes();
+        }
+    }
+
+    @Benchmark
+    public byte[] secretKeyFactory() throws InvalidKeySpecException {
+        return this.factory.generateSecret(new PBEKeySpec(this.passwords[0], this.salts[0], iterations, length * 8)).getEncoded();
+    }
+
+    @Benchmark
+    public byte[] pbkdf2() throws InvalidKeyException {
+        return this.pbkdf2.derive(this.passwords[0], this.salts[0]);
+    }
+
+    @Benchmark
+    public byte[][] secretKeyFactoryBatch() throws InvalidKeySpecException {
+        byte[][] keys = new byte[BATCH_SIZE][];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            keys[i] = this.factory.generateSecret(new PBEKeySpec(this.passwords[i], this.salts[i], iterations, length * 8)).getEncoded();
+        }
+
+        return keys;
+    }
+
+    @Benchmark
+    public byte[][] pbkdf2Batch() {
+        return this.pbkdf2.deriveAll(this.passwords, this.salts);
+    }
+}
@@ -0,0 +1,123 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.MacAlgorithm;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.math.BigInteger;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class Pbkdf2Test {
+
+    private static final char[][] PASSWORDS = {"".toCharArray(), "password".toCharArray(), "p\u00e4ssw\u00f6rd \u20ac".toCharArray()};
+    private static final byte[][] SALTS = {"salt".getBytes(), new byte[16], "NaCl and more salt".getBytes()};
+
+    @Parameterized.Parameter
+    public MacAlgorithm algorithm;
+
+    @Parameterized.Parameters
+    public static MacAlgorithm[] data() {
+        return new MacAlgorithm[]{
+                MacAlgorithm.HMAC_SHA1,
+                MacAlgorithm.HMAC_SHA224,
+                MacAlgorithm.HMAC_SHA256,
+                MacAlgorithm.HMAC_SHA384,
+                MacAlgorithm.HMAC_SHA512
+        };
+    }
+
+    private byte[] expected(char[] password, byte[] salt, int iterations, int length) throws NoSuchAlgorithmException, InvalidKeySpecException {
+        return SecretKeyFactory.getInstance("PBKDF2With" + algorithm.getValue())
+                .generateSecret(new PBEKeySpec(password, salt, iterations, length * 8))
+                .getEncoded();
+    }
+
+    @Test
+    public void deriveInvalidArgumentsTest() throws NoSuchAlgorithmException {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Pbkdf2(algorithm, 0, 32));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Pbkdf2(algorithm, 1, 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Pbkdf2(algorithm, 1, 32).derive((char[]) null, new byte[0]));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Pbkdf2(algorithm, 1, 32).derive(new char[0], null));
+    }
+
+    @Test
+    public void deriveAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeySpecException, InvalidKeyException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int iterations : new int[]{1, 2, 1000}) {
+                for (int length : new int[]{1, 20, 64, 133}) {
+                    for (int i = 0; i < PASSWORDS.length; i++) {
+                        Assert.assertArrayEquals(
+                                expected(PASSWORDS[i], SALTS[i], iterations, length),
+                                new Pbkdf2(algorithm, iterations, length, pool).derive(PASSWORDS[i], SALTS[i])
+                        );
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void deriveAllAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeySpecException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            byte[][] keys = new Pbkdf2(algorithm, 50, 40, pool).deriveAll(PASSWORDS, SALTS);
+
+            Assert.assertEquals(PASSWORDS.length, keys.length);
+            for (int i = 0; i < PASSWORDS.length; i++) {
+                Assert.assertArrayEquals(expected(PASSWORDS[i], SALTS[i], 50, 40), keys[i]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> new Pbkdf2(algorithm, 1, 32).deriveAll(PASSWORDS, new byte[1][])
+        );
+    }
+
+    @Test
+    public void deriveWithRestoredAndPaddedDigestsTest() throws NoSuchAlgorithmException, InvalidKeySpecException, InvalidKeyException {
+        char[] longPassword = new char[200];
+        Arrays.fill(longPassword, 'p');
+
+        for (boolean restore : new boolean[]{true, false}) {
+            for (char[] password : new char[][]{PASSWORDS[1], PASSWORDS[2], longPassword}) {
+                for (int iterations : new int[]{1, 3, 100}) {
+                    Assert.assertArrayEquals(
+                            expected(password, SALTS[0], iterations, 70),
+                            new Pbkdf2(algorithm, iterations, 70, ForkJoinPool.commonPool(), restore).derive(password, SALTS[0])
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void deriveRfc6070VectorTest() {
+        if (algorithm == MacAlgorithm.HMAC_SHA1) {
+            Assert.assertEquals(
+                    "4b007901b765489abead49d926f721d065a429c1",
+                    String.format("%040x", new BigInteger(1, Pbkdf2.derive(algorithm, "password".toCharArray(), "salt".getBytes(), 4096, 20).get()))
+            );
+        }
+    }
+}
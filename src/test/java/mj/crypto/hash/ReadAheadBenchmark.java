@@ -0,0 +1,94 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Time to hash an InputStream that stalls for a simulated latency on every read, as a decompressor or a network
+ * stream does. Zero read-ahead reads and hashes on one thread, otherwise a reader thread keeps the ring filled while
+ * the calling thread hashes.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReadAheadBenchmark {
+
+    @Param({"33554432"})
+    public int size;
+
+    @Param({"0", "200"})
+    public long latencyMicros;
+
+    @Param({"0", "4"})
+    public int readAhead;
+
+    @Param({"SHA_256"})
+    public HashAlgorithm algorithm;
+
+    private byte[] content;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReadAheadBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void createContent() {
+        this.content = new byte[size];
+        new Random(size).nextBytes(this.content);
+    }
+
+    @Benchmark
+    public byte[] hash() throws NoSuchAlgorithmException {
+        InputStreamHash hash = new InputStreamHash(algorithm, 64 * 1024, readAhead);
+        return hash.add(new SlowInputStream(this.content, latencyMicros)).finalizeHash().getResult().get();
+    }
+
+    private static final class SlowInputStream extends ByteArrayInputStream {
+
+        private final long latencyNanos;
+
+        private SlowInputStream(byte[] content, long latencyMicros) {
+            super(content);
+            this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+        }
+
+        @Override
+        public synchronized int read(byte[] bytes, int offset, int length) {
+            if (this.latencyNanos > 0) {
+                long deadline = System.nanoTime() + this.latencyNanos;
+                do {
+                    LockSupport.parkNanos(deadline - System.nanoTime());
+                } while (System.nanoTime() < deadline);
+            }
+
+            return super.read(bytes, offset, length);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class ResumableHashTest {
+
+    @ClassRule
+    public static final TemporaryFolder tmpDir = new TemporaryFolder();
+    private static final byte[] content = new byte[10_000];
+
+    static {
+        new Random(19).nextBytes(content);
+    }
+
+    @Parameterized.Parameter
+    public HashAlgorithm algorithm;
+
+    @Parameterized.Parameters
+    public static HashAlgorithm[] data() {
+        return new HashAlgorithm[]{
+                HashAlgorithm.SHA_1, HashAlgorithm.SHA_224, HashAlgorithm.SHA_256, HashAlgorithm.SHA_384, HashAlgorithm.SHA_512
+        };
+    }
+
+    private byte[] expected(byte[] input, int length) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+        digest.update(input, 0, length);
+        return digest.digest();
+    }
+
+    private static ResumableHash.Checkpoint copy(ResumableHash.Checkpoint checkpoint) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        checkpoint.writeTo(output);
+        return ResumableHash.Checkpoint.readFrom(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+    @Test
+    public void hashUnsupportedAlgorithmTest() {
+        Assert.assertTrue(ResumableHash.supports(algorithm));
+        Assert.assertFalse(ResumableHash.supports(HashAlgorithm.MD5));
+        Assert.assertThrows(NoSuchAlgorithmException.class, () -> new ResumableHash(HashAlgorithm.MD5));
+        Assert.assertThrows(IllegalArgumentException.class, () -> ResumableHash.resume(null));
+    }
+
+    @Test
+    public void hashWithoutPassingValueTest() throws NoSuchAlgorithmException {
+        Assert.assertFalse(new ResumableHash(algorithm).finalizeHash().getResult().isPresent());
+    }
+
+    @Test
+    public void hashAndCheckResultTest() throws NoSuchAlgorithmException {
+        ResumableHash hash = new ResumableHash(algorithm);
+        for (int length = 0; length <= 300; length++) {
+            Assert.assertArrayEquals(expected(content, length), hash.add(content, 0, length).finalizeHash().getResult().get());
+        }
+
+        for (int i = 0; i < content.length; i += 333) {
+            hash.add(content, i, Math.min(333, content.length - i));
+        }
+
+        Assert.assertArrayEquals(expected(content, content.length), hash.finalizeHash().getResult().get());
+
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+        byte[] times = digest.digest(digest.digest(digest.digest(content)));
+        Assert.assertArrayEquals(times, hash.add(content).finalizeHash(3).getResult().get());
+    }
+
+    @Test
+    public void hashResumeFromCheckpointTest() throws NoSuchAlgorithmException, IOException {
+        for (int split : new int[]{0, 1, 55, 64, 111, 128, 129, 4097, content.length}) {
+            ResumableHash.Checkpoint checkpoint = new ResumableHash(algorithm).add(content, 0, split).checkpoint();
+            Assert.assertEquals(algorithm, checkpoint.getAlgorithm());
+            Assert.assertEquals(split, checkpoint.getOffset());
+
+            ResumableHash resumed = ResumableHash.resume(copy(checkpoint));
+            Assert.assertEquals(split, resumed.getOffset());
+            Assert.assertArrayEquals(
+                    expected(content, content.length),
+                    resumed.add(content, split, content.length - split).finalizeHash().getResult().get()
+            );
+        }
+    }
+
+    @Test
+    public void hashWithCheckpointIntervalTest() throws NoSuchAlgorithmException {
+        List<ResumableHash.Checkpoint> checkpoints = new ArrayList<>();
+        ResumableHash hash = new ResumableHash(algorithm).setCheckpointInterval(1000, checkpoints::add);
+
+        byte[] expected = expected(content, content.length);
+        Assert.assertArrayEquals(expected, hash.add(new ByteArrayInputStream(content)).finalizeHash().getResult().get());
+        Assert.assertEquals(content.length / 1000, checkpoints.size());
+
+        for (int i = 0; i < checkpoints.size(); i++) {
+            ResumableHash.Checkpoint checkpoint = checkpoints.get(i);
+            Assert.assertEquals((i + 1) * 1000L, checkpoint.getOffset());
+
+            int offset = (int) checkpoint.getOffset();
+            InputStream rest = new ByteArrayInputStream(content, offset, content.length - offset);
+            Assert.assertArrayEquals(expected, ResumableHash.resume(checkpoint).add(rest).finalizeHash().getResult().get());
+        }
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> hash.setCheckpointInterval(10, null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> hash.setCheckpointInterval(-1, checkpoints::add));
+    }
+
+    @Test
+    public void hashResumeFileAfterFailureTest() throws NoSuchAlgorithmException, IOException {
+        File file = tmpDir.newFile(String.format("Resume%s.bin", algorithm));
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(content);
+        }
+
+        InputStream interrupted = new ByteArrayInputStream(content, 0, 7000) {
+            @Override
+            public synchronized int read(byte[] bytes, int offset, int length) {
+                int read = super.read(bytes, offset, Math.min(length, 1000));
+                if (read < 0) {
+                    throw new IllegalStateException("Connection reset");
+                }
+
+                return read;
+            }
+        };
+
+        ResumableHash hash = new ResumableHash(algorithm);
+        Assert.assertThrows(IllegalStateException.class, () -> hash.add(interrupted));
+        Assert.assertEquals(7000, hash.getOffset());
+
+        ResumableHash resumed = ResumableHash.resume(copy(hash.checkpoint()));
+        Assert.assertArrayEquals(
+                expected(content, content.length),
+                resumed.add(file, resumed.getOffset()).finalizeHash().getResult().get()
+        );
+    }
+
+    @Test
+    public void readCorruptCheckpointTest() throws NoSuchAlgorithmException, IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ResumableHash(algorithm).add(content, 0, 100).checkpoint().writeTo(output);
+        byte[] bytes = output.toByteArray();
+
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] corrupt = Arrays.copyOf(bytes, bytes.length);
+            corrupt[i] ^= 0x10;
+            Assert.assertThrows(IOException.class, () -> ResumableHash.Checkpoint.readFrom(new ByteArrayInputStream(corrupt)));
+        }
+    }
+
+    @Test
+    public void serializeCheckpointTest() throws NoSuchAlgorithmException, IOException, ClassNotFoundException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(output)) {
+            stream.writeObject(new ResumableHash(algorithm).add(content, 0, 5000).checkpoint());
+        }
+
+        ResumableHash.Checkpoint checkpoint;
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            checkpoint = (ResumableHash.Checkpoint) stream.readObject();
+        }
+
+        Assert.assertArrayEquals(
+                expected(content, content.length),
+                ResumableHash.resume(checkpoint).add(content, 5000, content.length - 5000).finalizeHash().getResult().get()
+        );
+    }
+}
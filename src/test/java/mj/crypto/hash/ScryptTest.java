@@ -0,0 +1,79 @@
+package mj.crypto.hash;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.math.BigInteger;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class ScryptTest {
+
+    @Parameterized.Parameter
+    public String password;
+
+    @Parameterized.Parameter(1)
+    public String salt;
+
+    @Parameterized.Parameter(2)
+    public int cost;
+
+    @Parameterized.Parameter(3)
+    public int blockSize;
+
+    @Parameterized.Parameter(4)
+    public int parallelization;
+
+    @Parameterized.Parameter(5)
+    public String expected;
+
+    @Parameterized.Parameters
+    public static Object[][] data() {
+        return new Object[][]{
+                {"", "", 16, 1, 1, "77d6576238657b203b19ca42c18a0497f16b4844e3074ae8dfdffa3fede21442"
+                        + "fcd0069ded0948f8326a753a0fc81f17e8d3e0fb2e0d3628cf35e20c38d18906"},
+                {"password", "NaCl", 1024, 8, 16, "fdbabe1c9d3472007856e7190d01e9fe7c6ad7cbc8237830e77376634b373162"
+                        + "2eaf30d92e22a3886ff109279d9830dac727afb94a83ee6d8360cbdfa2cc0640"}
+        };
+    }
+
+    private static String hex(byte[] bytes) {
+        return String.format("%0" + bytes.length * 2 + "x", new BigInteger(1, bytes));
+    }
+
+    @Test
+    public void deriveInvalidArgumentsTest() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Scrypt(1000, blockSize, parallelization, 64));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Scrypt(cost, 0, parallelization, 64));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Scrypt(1 << 16, 1, 1, 64));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Scrypt(cost, blockSize, parallelization, 64, -1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Scrypt(cost, blockSize, parallelization, 64).derive(password.toCharArray(), null));
+    }
+
+    @Test
+    public void deriveAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        Scrypt scrypt = new Scrypt(cost, blockSize, parallelization, 64);
+
+        Assert.assertEquals(expected, hex(scrypt.derive(password.toCharArray(), salt.getBytes())));
+        Assert.assertEquals(expected, hex(scrypt.derive(password.getBytes(), salt.getBytes())));
+        Assert.assertEquals(Scrypt.DEFAULT_RETAINED_ARENAS, scrypt.getRetainedArenas());
+    }
+
+    @Test
+    public void deriveWithoutRetainedArenasTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        Scrypt scrypt = new Scrypt(cost, blockSize, parallelization, 64, 0);
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(expected, hex(scrypt.derive(password.toCharArray(), salt.getBytes())));
+        }
+    }
+}
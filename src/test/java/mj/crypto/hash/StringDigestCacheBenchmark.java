@@ -0,0 +1,63 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ *
+ * Time to get the digest of a hot string from StringDigestCache against hashing it again with StringHash.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StringDigestCacheBenchmark {
+
+    @Param({"SHA_256"})
+    public HashAlgorithm algorithm;
+
+    private final String input = "tenant-3f2a9c1e-7b4d-4e8a-9c0f-51d2e6a7b8c9";
+    private StringDigestCache cache;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StringDigestCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void createCache() {
+        this.cache = new StringDigestCache();
+        this.cache.hash(algorithm, this.input);
+    }
+
+    @Benchmark
+    public Optional<byte[]> stringHash() {
+        return StringHash.hash(algorithm, this.input);
+    }
+
+    @Benchmark
+    public Optional<byte[]> cached() {
+        return this.cache.hash(algorithm, this.input);
+    }
+}
@@ -0,0 +1,169 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.MacAlgorithm;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class StringDigestCacheTest {
+
+    @Parameterized.Parameter
+    public HashAlgorithm algorithm;
+
+    @Parameterized.Parameters
+    public static HashAlgorithm[] data() {
+        return HashAlgorithm.values();
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+
+        return builder.toString();
+    }
+
+    @Test
+    public void cacheWithInvalidArgumentsTest() {
+        Class<? extends Exception> clz = IllegalArgumentException.class;
+        Assert.assertThrows(clz, () -> new StringDigestCache(0, 1024));
+        Assert.assertThrows(clz, () -> new StringDigestCache(16, 0));
+        Assert.assertThrows(clz, () -> new StringDigestCache().hash(algorithm, null));
+        Assert.assertThrows(clz, () -> new StringDigestCache().hash(null, "input"));
+        Assert.assertThrows(clz, () -> new StringDigestCache().mac(MacAlgorithm.HMAC_SHA256, null, null, "input"));
+    }
+
+    @Test
+    public void hashAndHitTest() {
+        StringDigestCache cache = new StringDigestCache();
+        byte[] expected = StringHash.hash(algorithm, "This sentence is for hashing").get();
+
+        Assert.assertEquals(0, cache.getStats().getHitRate(), 0);
+        for (int i = 0; i < 4; i++) {
+            byte[] actual = cache.hash(algorithm, "This sentence is for hashing").get();
+            Assert.assertArrayEquals(expected, actual);
+            actual[0] ^= 1;
+        }
+
+        Assert.assertEquals(1, cache.getStats().getMisses());
+        Assert.assertEquals(3, cache.getStats().getHits());
+        Assert.assertEquals(0.75, cache.getStats().getHitRate(), 0);
+        Assert.assertEquals(1, cache.getSize());
+
+        cache.invalidateAll();
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(0, cache.getWeight());
+        Assert.assertArrayEquals(expected, cache.hash(algorithm, "This sentence is for hashing").get());
+        Assert.assertEquals(2, cache.getStats().getMisses());
+    }
+
+    @Test
+    public void macWithKeyIdsTest() {
+        SecretKey key = new SecretKeySpec("first key".getBytes(), "HmacSHA256");
+        SecretKey other = new SecretKeySpec("second key".getBytes(), "HmacSHA256");
+        StringDigestCache cache = new StringDigestCache();
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertArrayEquals(StringMac.mac(MacAlgorithm.HMAC_SHA256, key, "input").get(), cache.mac(MacAlgorithm.HMAC_SHA256, "first", key, "input").get());
+            Assert.assertArrayEquals(StringMac.mac(MacAlgorithm.HMAC_SHA256, other, "input").get(), cache.mac(MacAlgorithm.HMAC_SHA256, "second", other, "input").get());
+        }
+
+        cache.hash(algorithm, "input");
+        Assert.assertEquals(3, cache.getStats().getMisses());
+        Assert.assertEquals(2, cache.getStats().getHits());
+    }
+
+    @Test
+    public void evictByEntriesTest() {
+        StringDigestCache cache = new StringDigestCache(100, StringDigestCache.DEFAULT_MAX_WEIGHT);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertArrayEquals(StringHash.hash(algorithm, "input " + i).get(), cache.hash(algorithm, "input " + i).get());
+            Assert.assertTrue(cache.getSize() <= 100);
+        }
+
+        Assert.assertEquals(900, cache.getStats().getEvictions());
+    }
+
+    @Test
+    public void evictByWeightTest() {
+        StringDigestCache cache = new StringDigestCache(1000, 10_000);
+        for (int i = 0; i < 20; i++) {
+            cache.hash(algorithm, repeat((char) ('a' + i), 1000));
+            Assert.assertTrue(cache.getWeight() <= 10_000);
+        }
+
+        Assert.assertTrue(cache.getSize() < 5);
+
+        String heavy = repeat('z', 6000);
+        cache.hash(algorithm, heavy);
+        cache.hash(algorithm, heavy);
+        Assert.assertEquals(22, cache.getStats().getMisses());
+    }
+
+    @Test
+    public void hotEntriesSurviveScanTest() {
+        StringDigestCache cache = new StringDigestCache(100, StringDigestCache.DEFAULT_MAX_WEIGHT);
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 10; i++) {
+                cache.hash(algorithm, "hot " + i);
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            cache.hash(algorithm, "scan " + i);
+        }
+
+        long misses = cache.getStats().getMisses();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertArrayEquals(StringHash.hash(algorithm, "hot " + i).get(), cache.hash(algorithm, "hot " + i).get());
+        }
+
+        Assert.assertEquals(misses, cache.getStats().getMisses());
+    }
+
+    @Test
+    public void hashConcurrentlyTest() throws InterruptedException, ExecutionException {
+        StringDigestCache cache = new StringDigestCache(64, StringDigestCache.DEFAULT_MAX_WEIGHT);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        String input = "input " + ((i * 7 + seed) % (i % 3 == 0 ? 200 : 20));
+                        Assert.assertArrayEquals(StringHash.hash(algorithm, input).get(), cache.hash(algorithm, input).get());
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertTrue(cache.getSize() <= 64);
+        Assert.assertEquals(8000, cache.getStats().getHits() + cache.getStats().getMisses());
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
@@ -133,6 +135,36 @@ public class StringHashTest {
         );
     }
 
+    @Test
+    public void hashStringUsingCharsetAndCheckResultTest() throws NoSuchAlgorithmException {
+        StringBuilder builder = new StringBuilder("Caf\u00e9 \u65e5\u672c \ud83d\ude00 broken \ud83d end ");
+        while (builder.length() < 3000) {
+            builder.append(builder);
+        }
+
+        String string = builder.toString();
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+
+        Assert.assertArrayEquals(
+                digest.digest(string.getBytes(StandardCharsets.UTF_8)),
+                StringHash.hash(algorithm, string).get()
+        );
+
+        for (Charset charset : Arrays.asList(
+                StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.US_ASCII, StandardCharsets.UTF_16
+        )) {
+            Assert.assertArrayEquals(
+                    digest.digest(string.getBytes(charset)),
+                    new StringHash(algorithm, charset).add(string).finalizeHash().getResult().get()
+            );
+
+            Assert.assertArrayEquals(
+                    digest.digest(string.substring(5, 2000).getBytes(charset)),
+                    new StringHash(algorithm, charset).add(builder, 5, 2000).finalizeHash().getResult().get()
+            );
+        }
+    }
+
     @Test
     public void hashListOfStringAndCheckResultTest() throws NoSuchAlgorithmException {
         MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
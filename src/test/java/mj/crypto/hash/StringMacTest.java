@@ -11,6 +11,8 @@ import org.junit.runners.Parameterized;
 import javax.crypto.KeyGenerator;
 import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
@@ -146,6 +148,37 @@ public class StringMacTest {
         );
     }
 
+    @Test
+    public void macStringUsingCharsetAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
+        StringBuilder builder = new StringBuilder("Caf\u00e9 \u65e5\u672c \ud83d\ude00 broken \ud83d end ");
+        while (builder.length() < 3000) {
+            builder.append(builder);
+        }
+
+        String string = builder.toString();
+        Mac mac = Mac.getInstance(algorithm.getValue());
+        mac.init(key);
+
+        Assert.assertArrayEquals(
+                mac.doFinal(string.getBytes(StandardCharsets.UTF_8)),
+                StringMac.mac(algorithm, key, string).get()
+        );
+
+        for (Charset charset : Arrays.asList(
+                StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.US_ASCII, StandardCharsets.UTF_16
+        )) {
+            Assert.assertArrayEquals(
+                    mac.doFinal(string.getBytes(charset)),
+                    new StringMac(algorithm, key, charset).add(string).finalizeMac().getResult().get()
+            );
+
+            Assert.assertArrayEquals(
+                    mac.doFinal(string.substring(5, 2000).getBytes(charset)),
+                    new StringMac(algorithm, key, charset).add(builder, 5, 2000).finalizeMac().getResult().get()
+            );
+        }
+    }
+
     @Test
     public void hashListOfStringAndCheckResultTest() throws NoSuchAlgorithmException, InvalidKeyException {
         StringMac stringMac = new StringMac(algorithm, key);
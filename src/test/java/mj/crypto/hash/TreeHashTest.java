@@ -0,0 +1,184 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class TreeHashTest {
+
+    @ClassRule
+    public static final TemporaryFolder tmpDir = new TemporaryFolder();
+    private static final List<byte[]> contents = new ArrayList<>();
+    private static final List<File> files = new ArrayList<>();
+    private static final int LEAF_SIZE = 16;
+
+    @Parameterized.Parameter
+    public HashAlgorithm algorithm;
+
+    @Parameterized.Parameters
+    public static HashAlgorithm[] data() {
+        return HashAlgorithm.values();
+    }
+
+    @BeforeClass
+    public static void initFiles() throws IOException {
+        Random random = new Random(7);
+        for (int size : new int[]{0, 1, LEAF_SIZE, LEAF_SIZE * 2, LEAF_SIZE * 3 - 1, LEAF_SIZE * 7 + 5}) {
+            byte[] content = new byte[size];
+            random.nextBytes(content);
+
+            File file = tmpDir.newFile(String.format("TestFile%d.bin", size));
+            try (FileOutputStream stream = new FileOutputStream(file)) {
+                stream.write(content);
+            }
+
+            contents.add(content);
+            files.add(file);
+        }
+    }
+
+    @AfterClass
+    public static void destroyFiles() {
+        tmpDir.delete();
+    }
+
+    private byte[] expected(byte[] content) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+
+        List<byte[]> leaves = new ArrayList<>();
+        int offset = 0;
+        do {
+            int length = Math.min(LEAF_SIZE, content.length - offset);
+            digest.update((byte) 0x00);
+            digest.update(content, offset, length);
+            leaves.add(digest.digest());
+            offset += length;
+        } while (offset < content.length);
+
+        return root(digest, leaves);
+    }
+
+    private byte[] root(MessageDigest digest, List<byte[]> leaves) {
+        if (leaves.size() == 1) {
+            return leaves.get(0);
+        }
+
+        int split = 1;
+        while (split * 2 < leaves.size()) {
+            split *= 2;
+        }
+
+        byte[] left = root(digest, leaves.subList(0, split));
+        byte[] right = root(digest, leaves.subList(split, leaves.size()));
+
+        digest.update((byte) 0x01);
+        digest.update(left);
+        digest.update(right);
+        return digest.digest();
+    }
+
+    @Test
+    public void hashNullFileTest() {
+        Assert.assertThrows(NullPointerException.class, () -> TreeHash.hash(algorithm, (File) null));
+    }
+
+    @Test
+    public void hashFileWithTooManyLeavesTest() throws IOException, NoSuchAlgorithmException {
+        File file = tmpDir.newFile(String.format("Sparse%s.bin", algorithm));
+        try (RandomAccessFile sparse = new RandomAccessFile(file, "rw")) {
+            sparse.setLength(3L * 1024 * 1024 * 1024);
+        }
+
+        try {
+            Assert.assertFalse(new TreeHash(algorithm, 1).add(file).finalizeHash().getResult().isPresent());
+        } finally {
+            Assert.assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    public void hashWithoutPassingValueTest() throws NoSuchAlgorithmException {
+        TreeHash hash = new TreeHash(algorithm);
+        Assert.assertFalse(hash.finalizeHash().getResult().isPresent());
+        Assert.assertFalse(hash.finalizeHash(5).getResult().isPresent());
+    }
+
+    @Test
+    public void hashFileAndCheckResultTest() throws NoSuchAlgorithmException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                Assert.assertArrayEquals(
+                        expected(contents.get(i)),
+                        new TreeHash(algorithm, LEAF_SIZE, pool).add(files.get(i)).finalizeHash().getResult().get()
+                );
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void hashInputStreamAndCheckResultTest() throws NoSuchAlgorithmException {
+        for (byte[] content : contents) {
+            Assert.assertArrayEquals(
+                    expected(content),
+                    new TreeHash(algorithm, LEAF_SIZE).add(new ByteArrayInputStream(content)).finalizeHash().getResult().get()
+            );
+        }
+    }
+
+    @Test
+    public void hashSingleLeafFileTest() throws NoSuchAlgorithmException {
+        byte[] content = contents.get(contents.size() - 1);
+
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+        digest.update((byte) 0x00);
+        digest.update(content);
+
+        Assert.assertArrayEquals(digest.digest(), TreeHash.hash(algorithm, files.get(files.size() - 1)).get());
+    }
+
+    @Test
+    public void hashListOfFilesAndCheckResultTest() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(algorithm.getValue());
+        TreeHash hash = new TreeHash(algorithm, LEAF_SIZE);
+
+        for (int i = 0; i < files.size(); i++) {
+            digest.update(expected(contents.get(i)));
+            hash.add(files.get(i));
+        }
+
+        Assert.assertArrayEquals(digest.digest(), hash.finalizeHash().getResult().get());
+        Assert.assertFalse(Arrays.equals(
+                TreeHash.hash(algorithm, files.get(3)).get(),
+                new TreeHash(algorithm, LEAF_SIZE).add(files.get(3)).finalizeHash().getResult().get()
+        ));
+    }
+}
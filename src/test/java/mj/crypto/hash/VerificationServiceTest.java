@@ -0,0 +1,190 @@
+package mj.crypto.hash;
+
+import mj.crypto.enums.HashAlgorithm;
+import mj.crypto.enums.Priority;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @Project cryptography
+ * @Author Montaser Sobaih
+ * @Date 18-10-2026
+ */
+
+@RunWith(Parameterized.class)
+public class VerificationServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Parameterized.Parameter
+    public Priority priority;
+
+    @Parameterized.Parameters
+    public static Priority[] data() {
+        return Priority.values();
+    }
+
+    private static CompletableFuture<Boolean> block(VerificationService service, CountDownLatch started, CountDownLatch release) {
+        return service.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return true;
+        }, Priority.HIGH, TIMEOUT);
+    }
+
+    private static Throwable cause(CompletableFuture<Boolean> future) throws InterruptedException {
+        try {
+            future.get();
+            throw new AssertionError("Verification should have failed");
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (CancellationException e) {
+            return e;
+        }
+    }
+
+    @Test
+    public void verifyAndCheckResultTest() throws ExecutionException, InterruptedException {
+        byte[] input = "password".getBytes();
+        byte[] expected = ByteHash.hashTimes(HashAlgorithm.SHA_256, input, 1000).get();
+
+        try (VerificationService service = new VerificationService(2, 16)) {
+            Assert.assertTrue(service.verify(expected, () -> ByteHash.hashTimes(HashAlgorithm.SHA_256, input, 1000).get(), priority, TIMEOUT).get());
+            Assert.assertFalse(service.verify(expected, () -> ByteHash.hashTimes(HashAlgorithm.SHA_256, input, 999).get(), priority, TIMEOUT).get());
+            Assert.assertEquals(2, service.getMetrics().getCompleted());
+        }
+    }
+
+    @Test
+    public void verifyThrowingErrorKeepsWorkerTest() throws InterruptedException, ExecutionException {
+        try (VerificationService service = new VerificationService(1, 16)) {
+            CompletableFuture<Boolean> failed = service.submit(() -> {
+                throw new StackOverflowError("Too deep");
+            }, priority, TIMEOUT);
+
+            Throwable cause = cause(failed);
+            Assert.assertTrue(cause instanceof StackOverflowError);
+            Assert.assertEquals("Too deep", cause.getMessage());
+            Assert.assertTrue(service.submit(() -> true, priority, TIMEOUT).get());
+        }
+    }
+
+    @Test
+    public void verifyHigherPrioritiesFirstTest() throws InterruptedException, ExecutionException {
+        try (VerificationService service = new VerificationService(1, 16)) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Boolean> blocker = block(service, started, release);
+            started.await();
+
+            List<Priority> order = Collections.synchronizedList(new ArrayList<>());
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+            for (Priority submitted : new Priority[]{Priority.LOW, priority, Priority.NORMAL, Priority.HIGH}) {
+                futures.add(service.submit(() -> order.add(submitted), submitted, TIMEOUT));
+            }
+
+            Assert.assertEquals(4, service.getQueueDepth());
+            Assert.assertTrue(service.getQueueDepth(priority) >= 1);
+
+            release.countDown();
+            blocker.get();
+            for (CompletableFuture<Boolean> future : futures) {
+                Assert.assertTrue(future.get());
+            }
+
+            List<Priority> sorted = new ArrayList<>(order);
+            Collections.sort(sorted);
+            Assert.assertEquals(sorted, order);
+        }
+    }
+
+    @Test
+    public void verifyRejectedWhenQueueIsFullTest() throws InterruptedException, ExecutionException {
+        try (VerificationService service = new VerificationService(1, 1)) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Boolean> blocker = block(service, started, release);
+            started.await();
+
+            CompletableFuture<Boolean> queued = service.submit(() -> true, priority, TIMEOUT);
+            Assert.assertTrue(cause(service.submit(() -> true, priority, TIMEOUT)) instanceof RejectedExecutionException);
+
+            release.countDown();
+            Assert.assertTrue(blocker.get());
+            Assert.assertTrue(queued.get());
+            Assert.assertEquals(1, service.getMetrics().getRejected());
+            Assert.assertEquals(3, service.getMetrics().getSubmitted());
+        }
+    }
+
+    @Test
+    public void verifyExpiredWhileQueuedTest() throws InterruptedException, ExecutionException {
+        try (VerificationService service = new VerificationService(1, 16)) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Boolean> blocker = block(service, started, release);
+            started.await();
+
+            CompletableFuture<Boolean> expired = service.submit(() -> true, priority, Duration.ofMillis(10));
+            Thread.sleep(50);
+            release.countDown();
+
+            Assert.assertTrue(blocker.get());
+            Assert.assertTrue(cause(expired) instanceof TimeoutException);
+            Assert.assertEquals(1, service.getMetrics().getExpired());
+            Assert.assertTrue(service.getMetrics().getMaxWait().compareTo(Duration.ofMillis(50)) >= 0);
+        }
+    }
+
+    @Test
+    public void verifyRejectedWhenDeadlineCannotBeMetTest() throws InterruptedException, ExecutionException {
+        try (VerificationService service = new VerificationService(1, 16)) {
+            Assert.assertTrue(service.submit(() -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return true;
+            }, priority, TIMEOUT).get());
+
+            Assert.assertTrue(cause(service.submit(() -> true, priority, Duration.ofMillis(10))) instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void verifyAfterCloseTest() throws InterruptedException {
+        VerificationService service = new VerificationService(1, 16);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        block(service, started, release);
+        started.await();
+
+        CompletableFuture<Boolean> pending = service.submit(() -> true, priority, TIMEOUT);
+        service.close();
+        release.countDown();
+
+        Assert.assertTrue(cause(pending) instanceof CancellationException);
+        Assert.assertTrue(cause(service.submit(() -> true, priority, TIMEOUT)) instanceof RejectedExecutionException);
+        Assert.assertThrows(IllegalArgumentException.class, () -> service.verify(null, () -> new byte[0], TIMEOUT));
+    }
+}